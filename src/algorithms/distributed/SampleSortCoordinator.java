@@ -0,0 +1,315 @@
+package algorithms.distributed;
+
+import algorithms.factories.SortingAlgorithmType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coordinator of the distributed sample sort. It samples the data to pick one splitter between each pair of
+ * neighbouring workers, partitions the data into one key range per worker, sends every range to its worker,
+ * and concatenates the sorted ranges in order.
+ * <p>
+ * Workers are either spawned as local JVMs (one per worker, for the duration of one sort) or reached on
+ * loopback addresses where {@link SampleSortWorker} processes are listening, so scale-out can be tested
+ * on a single machine.
+ * <p>
+ * Copies of a key equal to a splitter are dealt out in turn to every worker whose key range may hold them, so
+ * inputs with many duplicates stay balanced. A sort fails with an IOException, rather than waiting forever,
+ * if the workers do not all return their ranges within the timeout.
+ *
+ * @see SampleSortWorker
+ */
+public class SampleSortCoordinator {
+    /**
+     * Number of samples drawn per worker when choosing splitters
+     */
+    private static final int DEFAULT_OVERSAMPLING = 64;
+
+    /**
+     * Default time a sort may take, from connecting to the workers to reading back the last range
+     */
+    private static final long DEFAULT_TIMEOUT_MILLIS = 10 * 60 * 1000L;
+
+    /**
+     * Longest wait for a connection to a listening worker to be accepted
+     */
+    private static final int CONNECT_TIMEOUT_MILLIS = 10 * 1000;
+
+    private final int workerCount;
+    private final List<InetSocketAddress> workerAddresses;
+    private final SortingAlgorithmType algorithmType;
+    private final int oversampling;
+    private final long seed;
+    private long timeoutMillis;
+
+    /**
+     * Constructor for a coordinator which spawns its workers as local JVMs
+     *
+     * @param workerCount   the number of worker processes to spawn per sort
+     * @param algorithmType the sorting algorithm the workers should use
+     */
+    public SampleSortCoordinator(int workerCount, SortingAlgorithmType algorithmType) {
+        this(workerCount, null, algorithmType);
+    }
+
+    /**
+     * Constructor for a coordinator which connects to workers listening on the given addresses
+     *
+     * @param workerAddresses the addresses of the listening workers, one key range is sent to each
+     * @param algorithmType   the sorting algorithm the workers should use
+     */
+    public SampleSortCoordinator(List<InetSocketAddress> workerAddresses, SortingAlgorithmType algorithmType) {
+        this(workerAddresses.size(), new ArrayList<>(workerAddresses), algorithmType);
+    }
+
+    private SampleSortCoordinator(int workerCount, List<InetSocketAddress> workerAddresses, SortingAlgorithmType algorithmType) {
+        if (workerCount < 1)
+            throw new IllegalArgumentException("At least one worker is required");
+
+        this.workerCount = workerCount;
+        this.workerAddresses = workerAddresses;
+        this.algorithmType = Objects.requireNonNull(algorithmType);
+        this.oversampling = DEFAULT_OVERSAMPLING;
+        this.seed = 0x5EED;
+        this.timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+    }
+
+    /**
+     * Sets the time a sort may take, after which it fails and its workers are stopped
+     *
+     * @param timeoutMillis the timeout in milliseconds
+     */
+    public void setTimeout(long timeoutMillis) {
+        if (timeoutMillis < 1)
+            throw new IllegalArgumentException("Timeout must be at least 1 ms, was " + timeoutMillis);
+
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Gets the time a sort may take
+     *
+     * @return the timeout in milliseconds
+     */
+    public long getTimeout() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Sorts the data across the workers
+     *
+     * @param data the data to sort, left unchanged
+     * @return a new array with the data in ascending order
+     * @throws IOException if a worker cannot be started, reached, fails, or does not finish within the timeout
+     */
+    public int[] sort(int[] data) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        int[] splitters = chooseSplitters(data);
+
+        // Partition into one key range per worker: count, then scatter into contiguous ranges
+        int[] bucketOf = new int[data.length];
+        int[] starts = new int[workerCount + 1];
+        int[] dealt = new int[workerCount];
+        for (int i = 0; i < data.length; ++i) {
+            bucketOf[i] = bucketFor(splitters, data[i], dealt);
+            starts[bucketOf[i] + 1]++;
+        }
+        for (int b = 0; b < workerCount; ++b) starts[b + 1] += starts[b];
+
+        int[] partitioned = new int[data.length];
+        int[] next = Arrays.copyOf(starts, workerCount);
+        for (int i = 0; i < data.length; ++i) partitioned[next[bucketOf[i]]++] = data[i];
+
+        List<WorkerConnection> connections = new ArrayList<>(workerCount);
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount);
+        try {
+            for (int w = 0; w < workerCount; ++w) connections.add(connect(w));
+
+            List<Future<int[]>> results = new ArrayList<>(workerCount);
+            for (int w = 0; w < workerCount; ++w) {
+                WorkerConnection connection = connections.get(w);
+                int from = starts[w], to = starts[w + 1];
+                results.add(executor.submit(() -> connection.sort(algorithmType, partitioned, from, to)));
+            }
+
+            int[] sorted = new int[data.length];
+            for (int w = 0; w < workerCount; ++w) {
+                int[] range = await(results.get(w), w, deadline);
+                if (range.length != starts[w + 1] - starts[w])
+                    throw new IOException("Worker " + w + " returned " + range.length + " items, expected " + (starts[w + 1] - starts[w]));
+
+                System.arraycopy(range, 0, sorted, starts[w], range.length);
+            }
+
+            return sorted;
+        } finally {
+            executor.shutdownNow();
+            for (WorkerConnection connection : connections) connection.close();
+        }
+    }
+
+    /**
+     * Chooses <code>workerCount - 1</code> splitters from a sorted random sample of the data
+     *
+     * @param data the data to sample
+     * @return the splitters in ascending order
+     */
+    private int[] chooseSplitters(int[] data) {
+        if (data.length == 0 || workerCount == 1)
+            return new int[0];
+
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] sample = new int[Math.min(data.length, workerCount * oversampling)];
+        for (int i = 0; i < sample.length; ++i) sample[i] = data[random.nextInt(data.length)];
+        Arrays.sort(sample);
+
+        int[] splitters = new int[workerCount - 1];
+        for (int i = 0; i < splitters.length; ++i)
+            splitters[i] = sample[(int) ((long) sample.length * (i + 1) / workerCount)];
+
+        return splitters;
+    }
+
+    /**
+     * Finds the key range of a value. A value between splitters has a single range; copies of a value equal to one
+     * or more splitters may go to any range from the first such splitter's to the one after the last, and are dealt
+     * out to them in turn
+     *
+     * @param splitters the splitters in ascending order
+     * @param value     the value to place
+     * @param dealt     the number of copies dealt so far, per first range a value may go to
+     * @return the key range (worker) for the value
+     */
+    private int bucketFor(int[] splitters, int value, int[] dealt) {
+        int first = countBefore(splitters, value, false);
+        int last = countBefore(splitters, value, true);
+        if (first == last)
+            return first;
+
+        // Only one value can equal splitters[first], so the counter is that value's own
+        return first + dealt[first]++ % (last - first + 1);
+    }
+
+    /**
+     * Counts the splitters less than the value, or less than or equal to it
+     */
+    private int countBefore(int[] splitters, int value, boolean inclusive) {
+        int lo = 0, hi = splitters.length;
+        while (lo < hi) {
+            int middle = (lo + hi) >>> 1;
+            if (splitters[middle] < value || inclusive && splitters[middle] == value)
+                lo = middle + 1;
+            else
+                hi = middle;
+        }
+        return lo;
+    }
+
+    /**
+     * Opens the connection to a worker, spawning its JVM if workers are local
+     */
+    private WorkerConnection connect(int worker) throws IOException {
+        if (workerAddresses != null) {
+            Socket socket = new Socket();
+            socket.connect(workerAddresses.get(worker), (int) Math.min(CONNECT_TIMEOUT_MILLIS, timeoutMillis));
+            socket.setSoTimeout((int) Math.min(Integer.MAX_VALUE, timeoutMillis));
+            return new WorkerConnection(socket, null);
+        }
+
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        ProcessBuilder processBuilder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), SampleSortWorker.class.getName());
+        processBuilder.redirectError(ProcessBuilder.Redirect.INHERIT);
+        return new WorkerConnection(null, processBuilder.start());
+    }
+
+    /**
+     * Waits for a worker's result until the deadline, unwrapping the failure if it has one. Workers which are still
+     * running when this fails are stopped as the sort closes its connections
+     */
+    private int[] await(Future<int[]> result, int worker, long deadline) throws IOException {
+        try {
+            return result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IOException("Worker " + worker + " did not finish within " + timeoutMillis + " ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for worker " + worker, e);
+        } catch (ExecutionException e) {
+            throw new IOException("Worker " + worker + " failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "workerCount=" + workerCount +
+                ", workerAddresses=" + (workerAddresses == null ? "local" : Collections.unmodifiableList(workerAddresses)) +
+                ", algorithmType=" + algorithmType +
+                ", oversampling=" + oversampling +
+                ", timeoutMillis=" + timeoutMillis +
+                "}";
+    }
+
+    /**
+     * Connection to one worker, over a socket or over a spawned process's standard streams
+     */
+    private static class WorkerConnection implements Closeable {
+        private final Socket socket;
+        private final Process process;
+        private final DataOutputStream out;
+        private final DataInputStream in;
+
+        WorkerConnection(Socket socket, Process process) throws IOException {
+            this.socket = socket;
+            this.process = process;
+            this.out = new DataOutputStream(new BufferedOutputStream(
+                    socket != null ? socket.getOutputStream() : process.getOutputStream(), SampleSortProtocol.BUFFER_SIZE));
+            this.in = new DataInputStream(new BufferedInputStream(
+                    socket != null ? socket.getInputStream() : process.getInputStream(), SampleSortProtocol.BUFFER_SIZE));
+        }
+
+        /**
+         * Sends a key range to the worker and reads back the sorted range
+         */
+        int[] sort(SortingAlgorithmType algorithmType, int[] data, int from, int to) throws IOException {
+            SampleSortProtocol.writeJob(out, algorithmType, data, from, to);
+            return SampleSortProtocol.readInts(in);
+        }
+
+        /**
+         * Closes the connection, ending the worker process if it was spawned. Failures are ignored
+         * since the worker is done with (or has already failed) its job
+         */
+        @Override
+        public void close() {
+            try {
+                if (socket != null) socket.close();
+                else out.close();
+            } catch (IOException ignored) {
+                // The worker may already have gone away
+            } finally {
+                if (process != null) process.destroy();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package algorithms.distributed;
+
+import algorithms.factories.SortingAlgorithmType;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Wire format shared by the coordinator and the workers. A job is the sorting algorithm type's name followed by
+ * a length-prefixed block of ints; the reply is the sorted ints as another length-prefixed block.
+ */
+final class SampleSortProtocol {
+    /**
+     * Size of the stream buffers on both ends of a connection
+     */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private SampleSortProtocol() {
+    }
+
+    /**
+     * Writes a job for a worker
+     *
+     * @param out           the stream to the worker
+     * @param algorithmType the sorting algorithm the worker should use
+     * @param data          the array holding the worker's key range
+     * @param from          the first index of the range (inclusive)
+     * @param to            the last index of the range (exclusive)
+     * @throws IOException if the worker cannot be written to
+     */
+    static void writeJob(DataOutputStream out, SortingAlgorithmType algorithmType, int[] data, int from, int to) throws IOException {
+        out.writeUTF(algorithmType.name());
+        writeInts(out, data, from, to);
+    }
+
+    /**
+     * Reads the sorting algorithm type of a job
+     *
+     * @param in the stream from the coordinator
+     * @return the sorting algorithm type to use
+     * @throws IOException if the coordinator cannot be read from or names an unknown type
+     */
+    static SortingAlgorithmType readAlgorithmType(DataInputStream in) throws IOException {
+        String name = in.readUTF();
+        try {
+            return SortingAlgorithmType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown sorting algorithm type: " + name, e);
+        }
+    }
+
+    /**
+     * Writes a length-prefixed block of ints and flushes it
+     */
+    static void writeInts(DataOutputStream out, int[] data, int from, int to) throws IOException {
+        out.writeInt(to - from);
+        for (int i = from; i < to; ++i) out.writeInt(data[i]);
+        out.flush();
+    }
+
+    /**
+     * Reads a length-prefixed block of ints
+     */
+    static int[] readInts(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0)
+            throw new IOException("Invalid block length: " + length);
+
+        int[] data = new int[length];
+        for (int i = 0; i < length; ++i) data[i] = in.readInt();
+        return data;
+    }
+}
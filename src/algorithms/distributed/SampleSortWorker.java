@@ -0,0 +1,142 @@
+package algorithms.distributed;
+
+import algorithms.factories.DefaultSortingAlgorithmFactory;
+import algorithms.factories.SortingAlgorithmFactory;
+import algorithms.factories.SortingAlgorithmType;
+import algorithms.sorting.SortingAlgorithm;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Worker process of the distributed sample sort. A worker receives one key range, sorts it with the requested
+ * sorting algorithm from the factory, and streams the sorted range back.
+ * <p>
+ * Run without arguments, the worker serves a single job over its standard input and output (this is how the
+ * coordinator spawns local workers). Run with <code>--port &lt;port&gt;</code>, it listens on the loopback
+ * interface and serves one job per connection until it is stopped.
+ *
+ * @see SampleSortCoordinator
+ */
+public class SampleSortWorker {
+    /**
+     * Stack size of the thread running a sort. Recursive sorts such as QuickSort go one level deeper per key in
+     * a run of equal keys, far deeper than a default thread stack allows
+     */
+    private static final long SORT_STACK_SIZE = 1L << 30;
+
+    private final SortingAlgorithmFactory<Integer> factory;
+
+    /**
+     * Default constructor, using the default sorting algorithm factory
+     */
+    public SampleSortWorker() {
+        factory = new DefaultSortingAlgorithmFactory<>();
+    }
+
+    /**
+     * Entry point of a worker process
+     *
+     * @param args empty to serve one job over stdin/stdout, or <code>--port &lt;port&gt;</code> to listen on loopback
+     * @throws IOException if a connection fails
+     */
+    public static void main(String[] args) throws IOException {
+        SampleSortWorker worker = new SampleSortWorker();
+
+        if (args.length == 2 && args[0].equals("--port")) {
+            worker.listen(Integer.parseInt(args[1]));
+        } else if (args.length == 0) {
+            worker.serve(System.in, System.out);
+        } else {
+            System.err.println("Usage: SampleSortWorker [--port <port>]");
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Listens on the loopback interface, serving one job per accepted connection
+     *
+     * @param port the port to listen on
+     * @throws IOException if the server socket fails
+     */
+    public void listen(int port) throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            while (!Thread.currentThread().isInterrupted()) {
+                try (Socket socket = serverSocket.accept()) {
+                    serve(socket.getInputStream(), socket.getOutputStream());
+                } catch (IOException e) {
+                    System.err.println("SampleSortWorker: job failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads one job, sorts it, and writes the sorted key range back
+     *
+     * @param input  the stream the job arrives on
+     * @param output the stream the result is written to
+     * @throws IOException if the job cannot be read or the result cannot be written
+     */
+    public void serve(InputStream input, OutputStream output) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input, SampleSortProtocol.BUFFER_SIZE));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output, SampleSortProtocol.BUFFER_SIZE));
+
+        SortingAlgorithmType algorithmType = SampleSortProtocol.readAlgorithmType(in);
+        int[] data = SampleSortProtocol.readInts(in);
+
+        List<Integer> list = new ArrayList<>(data.length);
+        for (int value : data) list.add(value);
+
+        sort(factory.makeSortingAlgorithm(algorithmType), list);
+
+        for (int i = 0; i < data.length; ++i) data[i] = list.get(i);
+        SampleSortProtocol.writeInts(out, data, 0, data.length);
+    }
+
+    /**
+     * Sorts the list on a thread with a large stack, reporting any failure of the sort (including a stack overflow)
+     * as an IOException so the worker can go on serving jobs
+     */
+    private void sort(SortingAlgorithm<Integer> sortingAlgorithm, List<Integer> list) throws IOException {
+        Throwable[] failure = new Throwable[1];
+        Thread thread = new Thread(null, () -> {
+            try {
+                sortingAlgorithm.sort(list, Comparator.naturalOrder());
+            } catch (Throwable t) {
+                failure[0] = t;
+            }
+        }, "SampleSortWorker-sort", SORT_STACK_SIZE);
+
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            thread.interrupt();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while sorting");
+        }
+
+        if (failure[0] != null)
+            throw new IOException("Sort failed: " + failure[0], failure[0]);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "factory=" + factory +
+                "}";
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * This package provides a distributed sample sort for Integer data. A coordinator samples splitters, partitions
+ * the data into one key range per worker, and concatenates the sorted ranges streamed back by the workers.
+ * Workers are separate JVMs, either spawned locally by the coordinator or listening on loopback sockets,
+ * and sort their range with any Sorting Algorithm from the factory
+ * @see algorithms.distributed.SampleSortCoordinator
+ * @see algorithms.distributed.SampleSortWorker
+ */
+package algorithms.distributed;
\ No newline at end of file
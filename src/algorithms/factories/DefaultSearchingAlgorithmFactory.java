@@ -0,0 +1,47 @@
+package algorithms.factories;
+
+import algorithms.searching.*;
+
+/**
+ * Baseline Abstract Factory implementation class for creating SearchingAlgorithms.
+ * Interpolation search and the learned index only work on numeric elements (Integers for the learned index):
+ * searching other elements with them fails with a ClassCastException. The learned index made here is untrained,
+ * so it finds every key by galloping from the start of the list; train one on the keys with
+ * {@link LearnedIndex#LearnedIndex(int[], int)}, as the SearchPlanner does
+ *
+ * @see algorithms.factories.SearchingAlgorithmFactory
+ */
+public class DefaultSearchingAlgorithmFactory<T extends Comparable<T>> implements SearchingAlgorithmFactory<T> {
+    /**
+     * Overriding method for constructing and returning a SearchingAlgorithm given
+     * parameters
+     *
+     * @param algorithmType The type of Searching Algorithm to create
+     * @return The appropriate searching algorithm based of the provided parameters
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public SearchingAlgorithm<T> makeSearchingAlgorithm(SearchingAlgorithmType algorithmType) {
+        switch (algorithmType) {
+            case PARALLEL_LINEAR_SEARCH:
+                return new ParallelLinearSearch<>();
+            case BINARY_SEARCH:
+                return new BinarySearch<>();
+            case EXPONENTIAL_SEARCH:
+                return new ExponentialSearch<>();
+            case INTERPOLATION_SEARCH:
+                return (SearchingAlgorithm<T>) new InterpolationSearch();
+            case HASH_INDEXED_SEARCH:
+                return new HashIndexedSearch<>();
+            case LEARNED_INDEX:
+                return (SearchingAlgorithm<T>) (SearchingAlgorithm) new LearnedIndex(new int[0], LearnedIndex.DEFAULT_MAX_ERROR);
+            default:
+                return new LinearSearch<>();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" + '}';
+    }
+}
@@ -0,0 +1,65 @@
+package algorithms.factories;
+
+import algorithms.searching.SearchingAlgorithm;
+
+import java.util.Objects;
+
+/**
+ * The searching algorithm a SearchPlanner chose for a list, with the reason it was chosen
+ *
+ * @param <T> the type of objects the algorithm searches on
+ * @see SearchPlanner
+ */
+public final class SearchPlan<T extends Comparable<T>> {
+    private final SearchingAlgorithmType algorithmType;
+    private final SearchingAlgorithm<T> searchingAlgorithm;
+    private final String reason;
+
+    /**
+     * Constructor for a plan
+     *
+     * @param algorithmType      the type of the chosen algorithm
+     * @param searchingAlgorithm the chosen algorithm
+     * @param reason             why the algorithm was chosen
+     */
+    public SearchPlan(SearchingAlgorithmType algorithmType, SearchingAlgorithm<T> searchingAlgorithm, String reason) {
+        this.algorithmType = Objects.requireNonNull(algorithmType);
+        this.searchingAlgorithm = Objects.requireNonNull(searchingAlgorithm);
+        this.reason = Objects.requireNonNull(reason);
+    }
+
+    /**
+     * Gets the type of the chosen algorithm
+     *
+     * @return the algorithm type
+     */
+    public SearchingAlgorithmType getAlgorithmType() {
+        return algorithmType;
+    }
+
+    /**
+     * Gets the chosen algorithm, ready to search the planned list
+     *
+     * @return the searching algorithm
+     */
+    public SearchingAlgorithm<T> getSearchingAlgorithm() {
+        return searchingAlgorithm;
+    }
+
+    /**
+     * Gets why the algorithm was chosen
+     *
+     * @return the reason, in words
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "algorithmType=" + algorithmType +
+                ", reason='" + reason + '\'' +
+                "}";
+    }
+}
@@ -0,0 +1,270 @@
+package algorithms.factories;
+
+import algorithms.listBuilder.CompressedSortedIntList;
+import algorithms.searching.LearnedIndex;
+import algorithms.searching.SearchingAlgorithm;
+import algorithms.sorting.OrderStatisticTreeContext;
+import algorithms.sorting.SortingContext;
+import algorithms.sorting.TrackedList;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Chooses a searching algorithm for a list from what is known about it: whether it is sorted in natural order, its
+ * size, whether it supports random access, the type of its elements, and how many lookups are expected. Algorithms
+ * which need a sorted list are only chosen when the list is proven to be sorted, so the planned lookups are always
+ * correct for the list as it is when planned.
+ * <p>
+ * A list is proven sorted by what tracks it: an order-statistic tree context, a TrackedList sorted in natural order
+ * and unchanged since, or a CompressedSortedIntList. The completion status of a sorting algorithm proves nothing,
+ * since the list can be changed after the sort and the algorithm can be shared between contexts. Any other
+ * random-access list is checked with one pass over it when at least two lookups are expected, which costs about as
+ * much as one scan, and usually stops at the first pair out of order.
+ * <p>
+ * The rules, in order: small lists are scanned; large sorted lists of Integers get a LearnedIndex trained on them
+ * when enough lookups are expected to pay for the training; other sorted random-access lists get interpolation search
+ * if their keys are numbers spread close to uniformly, and binary search otherwise; unsorted TrackedLists get a hash
+ * index when enough lookups are expected to pay for building it; other unsorted lists get a parallel scan when they
+ * are huge, and a plain scan otherwise.
+ *
+ * @param <T> the type of objects to search on
+ * @see SearchPlan
+ */
+public class SearchPlanner<T extends Comparable<T>> {
+    /**
+     * Lists up to this size are scanned, which beats the setup of any other algorithm
+     */
+    private static final int SMALL_LIST_SIZE = 32;
+
+    /**
+     * Number of lookups from which building a hash index costs less than scanning for each of them
+     */
+    private static final int HASH_INDEX_MIN_QUERIES = 8;
+
+    /**
+     * Number of lookups from which checking whether a list is sorted, in one pass, can pay off
+     */
+    private static final int SORTEDNESS_CHECK_MIN_QUERIES = 2;
+
+    /**
+     * Smallest sorted list for which a learned index is trained, below which binary search stays in cache
+     */
+    private static final int LEARNED_INDEX_MIN_SIZE = 1 << 16;
+
+    /**
+     * Number of list items per expected lookup up to which training a learned index, one pass over the list, pays off
+     */
+    private static final int LEARNED_INDEX_ITEMS_PER_QUERY = 8;
+
+    /**
+     * Smallest unsorted list scanned in parallel for few lookups
+     */
+    private static final int PARALLEL_MIN_SIZE = 1 << 20;
+
+    /**
+     * Smallest sorted list for which interpolation is worth checking for
+     */
+    private static final int INTERPOLATION_MIN_SIZE = 1 << 12;
+
+    /**
+     * Number of evenly spaced keys sampled to check whether keys are close to uniform
+     */
+    private static final int UNIFORMITY_SAMPLES = 16;
+
+    /**
+     * Largest distance, as a fraction of the list size, between a sampled key's position and its position
+     * interpolated from the first and last keys, for the keys to count as close to uniform
+     */
+    private static final double UNIFORMITY_TOLERANCE = 1.0 / 32;
+
+    private final SearchingAlgorithmFactory<T> factory;
+
+    /**
+     * Default constructor, using the default searching algorithm factory
+     */
+    public SearchPlanner() {
+        this(new DefaultSearchingAlgorithmFactory<>());
+    }
+
+    /**
+     * Constructor for planning with a given factory
+     *
+     * @param factory the factory making the chosen algorithms
+     */
+    public SearchPlanner(SearchingAlgorithmFactory<T> factory) {
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    /**
+     * Plans lookups on the items of a sorting context. The items count as sorted if the context tracks them as
+     * sorted in natural order, or if they are checked and found to be in natural order
+     *
+     * @param context         the context holding the list to search
+     * @param expectedQueries the number of lookups expected on the list
+     * @return the plan
+     */
+    public SearchPlan<T> plan(SortingContext<T> context, int expectedQueries) {
+        List<T> items = context.getItems();
+        return plan(items, isKnownSorted(context) || isCheckedSorted(items, expectedQueries), expectedQueries);
+    }
+
+    /**
+     * Plans lookups on a list. The list counts as sorted if it is a CompressedSortedIntList, a TrackedList sorted in
+     * natural order, or if it is checked and found to be in natural order
+     *
+     * @param list            the list to search
+     * @param expectedQueries the number of lookups expected on the list
+     * @return the plan
+     */
+    public SearchPlan<T> plan(List<T> list, int expectedQueries) {
+        return plan(list, isKnownSorted(list) || isCheckedSorted(list, expectedQueries), expectedQueries);
+    }
+
+    private SearchPlan<T> plan(List<T> list, boolean sorted, int expectedQueries) {
+        int n = list.size();
+        String order = sorted ? "sorted" : "unsorted";
+
+        if (n <= SMALL_LIST_SIZE)
+            return makePlan(SearchingAlgorithmType.LINEAR_SEARCH, "small " + order + " list of " + n + " items");
+
+        if (sorted && list instanceof RandomAccess) {
+            if (n >= LEARNED_INDEX_MIN_SIZE && (long) expectedQueries * LEARNED_INDEX_ITEMS_PER_QUERY >= n) {
+                int[] keys = integerKeys(list);
+                if (keys != null)
+                    return makeLearnedIndexPlan(keys, lookups(expectedQueries) + " on sorted list of " + n + " Integer keys");
+            }
+
+            if (n >= INTERPOLATION_MIN_SIZE && isCloseToUniform(list))
+                return makePlan(SearchingAlgorithmType.INTERPOLATION_SEARCH, "sorted list of " + n + " numeric keys close to uniform");
+
+            return makePlan(SearchingAlgorithmType.BINARY_SEARCH, "sorted list of " + n + " items");
+        }
+
+        // Only a TrackedList tells the hash index when to rebuild, on any other list it scans
+        if (expectedQueries >= HASH_INDEX_MIN_QUERIES && list instanceof TrackedList)
+            return makePlan(SearchingAlgorithmType.HASH_INDEXED_SEARCH, lookups(expectedQueries) + " on " + order + " list of " + n + " items");
+
+        if (n >= PARALLEL_MIN_SIZE && list instanceof RandomAccess && ForkJoinPool.getCommonPoolParallelism() > 1)
+            return makePlan(SearchingAlgorithmType.PARALLEL_LINEAR_SEARCH, lookups(expectedQueries) + " on large " + order + " list of " + n + " items");
+
+        return makePlan(SearchingAlgorithmType.LINEAR_SEARCH, lookups(expectedQueries) + " on " + order + " list of " + n + " items"
+                + (sorted ? " without random access" : ""));
+    }
+
+    private static String lookups(int expectedQueries) {
+        return expectedQueries == 1 ? "1 lookup" : expectedQueries + " lookups";
+    }
+
+    private SearchPlan<T> makePlan(SearchingAlgorithmType algorithmType, String reason) {
+        SearchingAlgorithm<T> searchingAlgorithm = factory.makeSearchingAlgorithm(algorithmType);
+        return new SearchPlan<>(algorithmType, searchingAlgorithm, reason);
+    }
+
+    /**
+     * Trains a learned index on the keys; the factory cannot, as it makes algorithms without seeing the list
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private SearchPlan<T> makeLearnedIndexPlan(int[] keys, String reason) {
+        SearchingAlgorithm<T> learnedIndex = (SearchingAlgorithm<T>) (SearchingAlgorithm) new LearnedIndex(keys, LearnedIndex.DEFAULT_MAX_ERROR);
+        return new SearchPlan<>(SearchingAlgorithmType.LEARNED_INDEX, learnedIndex, reason);
+    }
+
+    /**
+     * Gets whether the context's items are proven to be sorted in natural order, without looking at them
+     */
+    private boolean isKnownSorted(SortingContext<T> context) {
+        Comparator<T> comparator = context.getComparator();
+        if (!isNaturalOrder(comparator))
+            return false;
+
+        return context instanceof OrderStatisticTreeContext || isKnownSorted(context.getItems());
+    }
+
+    /**
+     * Gets whether a list is proven to be sorted in natural order by its type, without looking at its items
+     */
+    private boolean isKnownSorted(List<T> list) {
+        if (list instanceof CompressedSortedIntList)
+            return true;
+
+        // Natural order is recorded as either a null comparator or the natural order comparator
+        if (list instanceof TrackedList) {
+            TrackedList<T> trackedList = (TrackedList<T>) list;
+            return trackedList.isSorted(null) || trackedList.isSorted(Comparator.naturalOrder());
+        }
+
+        return false;
+    }
+
+    private static boolean isNaturalOrder(Comparator<?> comparator) {
+        return comparator == null || comparator.equals(Comparator.naturalOrder());
+    }
+
+    /**
+     * Checks whether a random-access list is in natural order with one pass over it, when enough lookups are
+     * expected for the pass to pay off
+     */
+    private boolean isCheckedSorted(List<T> list, int expectedQueries) {
+        if (expectedQueries < SORTEDNESS_CHECK_MIN_QUERIES || list.size() <= SMALL_LIST_SIZE || !(list instanceof RandomAccess))
+            return false;
+
+        for (int i = 1, n = list.size(); i < n; ++i)
+            if (list.get(i - 1).compareTo(list.get(i)) > 0)
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Copies the keys of a list out as ints, or gets null if any of them is not an Integer
+     */
+    private static int[] integerKeys(List<?> list) {
+        int[] keys = new int[list.size()];
+        int i = 0;
+        for (Object key : list) {
+            if (!(key instanceof Integer))
+                return null;
+            keys[i++] = (Integer) key;
+        }
+        return keys;
+    }
+
+    /**
+     * Samples evenly spaced keys of a sorted list, checking that they are numbers lying close to the straight line
+     * between the first and last keys, which is where interpolation search does well
+     */
+    private boolean isCloseToUniform(List<T> list) {
+        int n = list.size();
+        T first = list.get(0), last = list.get(n - 1);
+        if (!(first instanceof Number) || !(last instanceof Number))
+            return false;
+
+        double low = ((Number) first).doubleValue(), high = ((Number) last).doubleValue();
+        if (!(high > low))
+            return false;
+
+        for (int s = 1; s < UNIFORMITY_SAMPLES; ++s) {
+            int position = (int) ((long) (n - 1) * s / UNIFORMITY_SAMPLES);
+            T key = list.get(position);
+            if (!(key instanceof Number))
+                return false;
+
+            double predicted = (((Number) key).doubleValue() - low) / (high - low) * (n - 1);
+            if (Math.abs(predicted - position) > n * UNIFORMITY_TOLERANCE)
+                return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "factory=" + factory +
+                "}";
+    }
+}
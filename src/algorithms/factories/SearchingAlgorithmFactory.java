@@ -0,0 +1,19 @@
+package algorithms.factories;
+
+import algorithms.searching.SearchingAlgorithm;
+
+/**
+ * Abstract Factory for creating Searching Algorithms
+ *
+ * @see SearchingAlgorithm
+ * @see SearchPlanner
+ */
+public interface SearchingAlgorithmFactory<T extends Comparable<T>> {
+    /**
+     * Method for creating a searching algorithm given the type requested
+     *
+     * @param algorithmType the type of searching algorithm to create
+     * @return the proper searching algorithm
+     */
+    SearchingAlgorithm<T> makeSearchingAlgorithm(SearchingAlgorithmType algorithmType);
+}
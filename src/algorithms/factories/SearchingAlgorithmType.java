@@ -0,0 +1,44 @@
+package algorithms.factories;
+
+/**
+ * Enumeration of Searching Algorithm types
+ */
+public enum SearchingAlgorithmType {
+
+    LINEAR_SEARCH("LinearSearch"),
+    PARALLEL_LINEAR_SEARCH("ParallelLinearSearch"),
+    BINARY_SEARCH("BinarySearch"),
+    EXPONENTIAL_SEARCH("ExponentialSearch"),
+    INTERPOLATION_SEARCH("InterpolationSearch"),
+    HASH_INDEXED_SEARCH("HashIndexedSearch"),
+    LEARNED_INDEX("LearnedIndex");
+
+    /**
+     * Name of Searching Algorithm
+     */
+    private final String algorithmName;
+
+    /**
+     * Constructor for setting the name of the algorithm to its
+     * enum value
+     *
+     * @param algorithmName the name of the searching algorithm
+     */
+    SearchingAlgorithmType(String algorithmName) {
+        this.algorithmName = algorithmName;
+    }
+
+    /**
+     * Gets whether the algorithm only gives correct results on lists sorted in natural order
+     *
+     * @return true for algorithms which need a sorted list
+     */
+    public boolean requiresSortedList() {
+        return this == BINARY_SEARCH || this == EXPONENTIAL_SEARCH || this == INTERPOLATION_SEARCH || this == LEARNED_INDEX;
+    }
+
+    @Override
+    public String toString() {
+        return algorithmName;
+    }
+}
@@ -1,5 +1,8 @@
 /**
  * This package provides the interfaces and implementations for
  * Sorting Algorithm Factories. The primary Factory is implements the Abstract Factory pattern
+ *
+ * Searching Algorithm Factories follow the same pattern, and the SearchPlanner picks the searching algorithm
+ * for a list from its sort state, size, key type and the number of lookups expected
  */
 package algorithms.factories;
\ No newline at end of file
@@ -0,0 +1,222 @@
+package algorithms.listBuilder;
+
+import algorithms.output.ChannelResultSink;
+import algorithms.output.ResultSink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Abstract base class for list builders whose items are generated from int ranks. The maker methods generate ranks
+ * (makeRandom from 1 to 1000, makeSorted from 1 up, or the shape of a distribution), then map every rank to an item,
+ * in parallel, with a function which keeps the order of the ranks: equal ranks give equal items and greater ranks
+ * give greater items. A sorted, nearly sorted or few-unique list of items therefore has the same shape as the
+ * Integers of IntegerListBuilder, which maps every rank to itself, only with more expensive comparisons.
+ *
+ * @param <T> the type of items built
+ * @see IntegerListBuilder
+ */
+public abstract class BaseRankedListBuilder<T> implements ListBuilder<T> {
+    protected static final int DEFAULT_MAKER_METHOD_ITEMS = 20;
+
+    /**
+     * Bounds of the ranks drawn by makeRandom, from 1 (inclusive) to 1001 (exclusive)
+     */
+    private static final int RANDOM_RANK_MIN = 1;
+    private static final int RANDOM_RANK_BOUND = 1001;
+
+    protected final int makerMethodItems;
+    protected final List<T> backingList;
+
+    /**
+     * Constructor for setting the internal collection and the number of items the maker methods generate
+     *
+     * @param list                         the items the internal collection will be set to
+     * @param numberOfItemsForMakerMethods the number of items to add to the list when making a random or sorted list
+     */
+    protected BaseRankedListBuilder(List<T> list, int numberOfItemsForMakerMethods) {
+        this.backingList = list;
+        this.makerMethodItems = numberOfItemsForMakerMethods;
+    }
+
+    /**
+     * Template method for sub-classes to implement. Creates the function mapping the ranks of one maker method call
+     * to items, keeping their order
+     *
+     * @param minRank the smallest rank which will be mapped
+     * @param maxRank the largest rank which will be mapped
+     * @return the function creating the item of a rank; it is called from several threads at once
+     */
+    protected abstract IntFunction<T> itemsForRanks(int minRank, int maxRank);
+
+    /**
+     * If the internal list is empty, then this method will build a list of random items. Otherwise,
+     * it will return the builder immediately
+     *
+     * @return the builder of the specified type
+     */
+    @Override
+    public ListBuilder<T> makeRandom() {
+        return makeRandom(new Random().nextLong());
+    }
+
+    /**
+     * If the internal list is empty, then this method will build a list of random items from a seed,
+     * the same list for the same seed. Otherwise, it will return the builder immediately
+     *
+     * @param seed the seed the items are generated from
+     * @return the builder of the specified type
+     */
+    @Override
+    public ListBuilder<T> makeRandom(long seed) {
+        if (backingList.isEmpty())
+            addRanks(new IntegerDataGenerator(seed).uniform(makerMethodItems, RANDOM_RANK_MIN, RANDOM_RANK_BOUND));
+        return this;
+    }
+
+    /**
+     * If the internal list is empty, then this method will build an ordered list. Otherwise,
+     * it will return the builder immediately
+     *
+     * @return the builder of the specified type
+     */
+    @Override
+    public ListBuilder<T> makeSorted() {
+        if (backingList.isEmpty())
+            addRanks(new IntegerDataGenerator(0).generate(makerMethodItems, DistributionSpec.of(DistributionType.SORTED)));
+        return this;
+    }
+
+    /**
+     * If the internal list is empty, then this method will build a list in the shape of a distribution,
+     * the same list for the same seed. Otherwise, it will return the builder immediately
+     *
+     * @param spec the distribution and its parameters
+     * @param seed the seed the items are generated from
+     * @return the builder of the specified type
+     */
+    @Override
+    public ListBuilder<T> makeDistribution(DistributionSpec spec, long seed) {
+        if (backingList.isEmpty())
+            addRanks(new IntegerDataGenerator(seed).generate(makerMethodItems, spec));
+        return this;
+    }
+
+    /**
+     * Adds a collection of items to the builders list
+     *
+     * @param collection the items to add
+     * @return the builder of the specified type
+     */
+    @Override
+    public ListBuilder<T> add(Collection<T> collection) {
+        if (collection != null) {
+            backingList.addAll(collection);
+        }
+        return this;
+    }
+
+    /**
+     * Adds an item to the builders list
+     *
+     * @param item the item to be added to the builder
+     * @return the builder of the specified type
+     */
+    @Override
+    public ListBuilder<T> add(T item) {
+        backingList.add(item);
+        return this;
+    }
+
+    /**
+     * Shuffles the items in the builder
+     *
+     * @return the builder of the specified type
+     */
+    @Override
+    public ListBuilder<T> shuffle() {
+        return shuffle(new Random().nextLong());
+    }
+
+    /**
+     * Shuffles the items in the builder, in the same order for the same seed
+     *
+     * @param seed the seed the order is drawn from
+     * @return the builder of the specified type
+     */
+    @Override
+    public ListBuilder<T> shuffle(long seed) {
+        ParallelShuffle.shuffle(backingList, seed);
+        return this;
+    }
+
+    /**
+     * This method will print the elements of the list, in large blocks through a result sink
+     *
+     * @return the builder of the specified type
+     */
+    @Override
+    public ListBuilder<T> print() {
+        print(backingList);
+        return this;
+    }
+
+    /**
+     * Prints a list as "List: " followed by every item and a space
+     *
+     * @param items the items to print
+     */
+    static void print(List<?> items) {
+        ResultSink sink = new ChannelResultSink(Channels.newChannel(System.out), " ");
+        try {
+            sink.writeText("List: ");
+            sink.writeAll(items);
+            sink.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates the complete list
+     *
+     * @return the list of items from the builder
+     */
+    @Override
+    public List<T> build() {
+        return backingList;
+    }
+
+    /**
+     * Copies the items for a clone of the builder, in constant time
+     *
+     * @return a copy of the items which shares nothing written to later
+     */
+    protected List<T> copyItems() {
+        return backingList instanceof CopyOnWriteChunkedList
+                ? ((CopyOnWriteChunkedList<T>) backingList).copy()
+                : new CopyOnWriteChunkedList<>(backingList);
+    }
+
+    /**
+     * Maps generated ranks to items in parallel and appends them with a single array copy
+     */
+    @SuppressWarnings("unchecked")
+    private void addRanks(int[] ranks) {
+        if (ranks.length == 0) return;
+
+        int minRank = Arrays.stream(ranks).parallel().min().getAsInt();
+        int maxRank = Arrays.stream(ranks).parallel().max().getAsInt();
+        IntFunction<T> itemOf = itemsForRanks(minRank, maxRank);
+
+        Object[] items = new Object[ranks.length];
+        Arrays.parallelSetAll(items, i -> itemOf.apply(ranks[i]));
+        backingList.addAll((List<T>) Arrays.asList(items));
+    }
+}
@@ -0,0 +1,28 @@
+package algorithms.listBuilder;
+
+/**
+ * Layout of a binary dataset file. The header is big-endian and 24 bytes long:
+ * <ul>
+ * <li>4 bytes: magic number, the ASCII characters <code>SDAT</code></li>
+ * <li>1 byte: format version</li>
+ * <li>1 byte: element type code</li>
+ * <li>1 byte: byte order of the values, 0 for big-endian and 1 for little-endian</li>
+ * <li>1 byte: flags, bit 0 set if the values are in ascending order</li>
+ * <li>8 bytes: number of values</li>
+ * <li>4 bytes: CRC-32 of the values</li>
+ * <li>4 bytes: reserved, zero</li>
+ * </ul>
+ * The packed values follow, in the header's byte order, so the payload starts 8-byte aligned.
+ */
+final class BinaryDatasetFormat {
+    static final int MAGIC = 0x53444154;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 24;
+
+    static final int BIG_ENDIAN = 0;
+    static final int LITTLE_ENDIAN = 1;
+    static final int FLAG_SORTED = 1;
+
+    private BinaryDatasetFormat() {
+    }
+}
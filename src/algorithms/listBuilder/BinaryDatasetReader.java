@@ -0,0 +1,216 @@
+package algorithms.listBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.zip.CRC32;
+
+/**
+ * Reads a binary dataset file written by BinaryDatasetWriter. Opening a dataset only reads and checks its header
+ * and memory-maps the values: they are not copied or parsed, so sorting or searching can start on the mapped views
+ * straight away and the operating system pages the values in as they are touched.
+ * <p>
+ * The checksum is only checked on request, since that reads every value. The values of one dataset are mapped
+ * at once, which limits them to 2GB.
+ *
+ * @see BinaryDatasetWriter
+ */
+public class BinaryDatasetReader {
+    private final DatasetElementType elementType;
+    private final ByteOrder byteOrder;
+    private final boolean sorted;
+    private final int size;
+    private final int checksum;
+    private final ByteBuffer payload;
+
+    /**
+     * Constructor for opening a dataset file
+     *
+     * @param path the file to open
+     * @throws IOException if the file cannot be read or is not a valid dataset
+     */
+    public BinaryDatasetReader(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(BinaryDatasetFormat.HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+            while (header.hasRemaining())
+                if (channel.read(header, header.position()) < 0)
+                    throw new IOException("Not a dataset, file too short: " + path);
+            header.flip();
+
+            if (header.getInt() != BinaryDatasetFormat.MAGIC)
+                throw new IOException("Not a dataset, bad magic number: " + path);
+
+            int version = header.get();
+            if (version != BinaryDatasetFormat.VERSION)
+                throw new IOException("Unsupported dataset version " + version + ": " + path);
+
+            int typeCode = header.get();
+            elementType = DatasetElementType.fromCode(typeCode);
+            if (elementType == null)
+                throw new IOException("Unknown element type " + typeCode + ": " + path);
+
+            byteOrder = header.get() == BinaryDatasetFormat.LITTLE_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+            sorted = (header.get() & BinaryDatasetFormat.FLAG_SORTED) != 0;
+            long count = header.getLong();
+            checksum = header.getInt();
+
+            long payloadSize = channel.size() - BinaryDatasetFormat.HEADER_SIZE;
+            if (count < 0 || count * elementType.getWidth() != payloadSize)
+                throw new IOException("Dataset header says " + count + " values, but the file holds " + payloadSize + " bytes of values: " + path);
+            if (payloadSize > Integer.MAX_VALUE)
+                throw new IOException("Dataset too large to map at once (" + payloadSize + " bytes): " + path);
+
+            size = (int) count;
+            payload = channel.map(FileChannel.MapMode.READ_ONLY, BinaryDatasetFormat.HEADER_SIZE, payloadSize).order(byteOrder);
+        }
+    }
+
+    /**
+     * Gets the type of the values
+     *
+     * @return the element type
+     */
+    public DatasetElementType getElementType() {
+        return elementType;
+    }
+
+    /**
+     * Gets the byte order the values are stored in
+     *
+     * @return the byte order
+     */
+    public ByteOrder getByteOrder() {
+        return byteOrder;
+    }
+
+    /**
+     * Gets whether the values were in ascending order when written
+     *
+     * @return the sortedness flag
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Gets the number of values
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reads every value and checks it against the checksum in the header
+     *
+     * @return true if the values match the checksum
+     */
+    public boolean verifyChecksum() {
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue() == checksum;
+    }
+
+    /**
+     * Gets a read-only view of int values, over the mapped file
+     *
+     * @return the values, from position 0 to size()
+     * @throws IllegalStateException if the dataset holds longs
+     */
+    public IntBuffer asIntBuffer() {
+        checkElementType(DatasetElementType.INT32);
+        return payload.duplicate().order(byteOrder).asIntBuffer();
+    }
+
+    /**
+     * Gets a read-only view of long values, over the mapped file
+     *
+     * @return the values, from position 0 to size()
+     * @throws IllegalStateException if the dataset holds ints
+     */
+    public LongBuffer asLongBuffer() {
+        checkElementType(DatasetElementType.INT64);
+        return payload.duplicate().order(byteOrder).asLongBuffer();
+    }
+
+    /**
+     * Gets a read-only list view of int values, over the mapped file. Searching algorithms can run on it directly;
+     * to sort the values, copy them first
+     *
+     * @return the values as a list
+     * @throws IllegalStateException if the dataset holds longs
+     */
+    public List<Integer> asList() {
+        IntBuffer values = asIntBuffer();
+        return new MappedIntList(values);
+    }
+
+    /**
+     * Copies int values into a new array
+     *
+     * @return the values
+     * @throws IllegalStateException if the dataset holds longs
+     */
+    public int[] toIntArray() {
+        int[] values = new int[size];
+        asIntBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * Copies long values into a new array
+     *
+     * @return the values
+     * @throws IllegalStateException if the dataset holds ints
+     */
+    public long[] toLongArray() {
+        long[] values = new long[size];
+        asLongBuffer().get(values);
+        return values;
+    }
+
+    private void checkElementType(DatasetElementType expected) {
+        if (elementType != expected)
+            throw new IllegalStateException("Dataset holds " + elementType + " values, not " + expected);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "elementType=" + elementType +
+                ", byteOrder=" + byteOrder +
+                ", sorted=" + sorted +
+                ", size=" + size +
+                "}";
+    }
+
+    /**
+     * Read-only list over an IntBuffer, reading values with absolute gets so views can be shared between threads
+     */
+    private static class MappedIntList extends AbstractList<Integer> implements RandomAccess {
+        private final IntBuffer values;
+
+        MappedIntList(IntBuffer values) {
+            this.values = values;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return values.get(index);
+        }
+
+        @Override
+        public int size() {
+            return values.limit();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package algorithms.listBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Writes int and long arrays as binary dataset files, which BinaryDatasetReader maps back without parsing.
+ * The writer works out the sortedness flag and the checksum itself while it writes the values.
+ *
+ * @see BinaryDatasetReader
+ */
+public final class BinaryDatasetWriter {
+    /**
+     * Size of the buffer values are written through
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private BinaryDatasetWriter() {
+    }
+
+    /**
+     * Writes ints in the platform's byte order, so they are read back fastest on the same platform
+     *
+     * @param path   the file to write, replaced if it exists
+     * @param values the values to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, int[] values) throws IOException {
+        write(path, values, ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Writes ints in a given byte order
+     *
+     * @param path      the file to write, replaced if it exists
+     * @param values    the values to write
+     * @param byteOrder the byte order of the values in the file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, int[] values, ByteOrder byteOrder) throws IOException {
+        boolean sorted = true;
+        for (int i = 1; i < values.length && sorted; ++i) sorted = values[i - 1] <= values[i];
+
+        try (FileChannel channel = open(path)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(byteOrder);
+            CRC32 crc = new CRC32();
+            channel.position(BinaryDatasetFormat.HEADER_SIZE);
+
+            int perBuffer = BUFFER_SIZE / Integer.BYTES;
+            for (int i = 0; i < values.length; i += perBuffer) {
+                int n = Math.min(perBuffer, values.length - i);
+                buffer.clear();
+                buffer.asIntBuffer().put(values, i, n);
+                buffer.limit(n * Integer.BYTES);
+                writePayload(channel, buffer, crc);
+            }
+
+            writeHeader(channel, DatasetElementType.INT32, byteOrder, sorted, values.length, crc);
+        }
+    }
+
+    /**
+     * Writes longs in the platform's byte order, so they are read back fastest on the same platform
+     *
+     * @param path   the file to write, replaced if it exists
+     * @param values the values to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, long[] values) throws IOException {
+        write(path, values, ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Writes longs in a given byte order
+     *
+     * @param path      the file to write, replaced if it exists
+     * @param values    the values to write
+     * @param byteOrder the byte order of the values in the file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, long[] values, ByteOrder byteOrder) throws IOException {
+        boolean sorted = true;
+        for (int i = 1; i < values.length && sorted; ++i) sorted = values[i - 1] <= values[i];
+
+        try (FileChannel channel = open(path)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(byteOrder);
+            CRC32 crc = new CRC32();
+            channel.position(BinaryDatasetFormat.HEADER_SIZE);
+
+            int perBuffer = BUFFER_SIZE / Long.BYTES;
+            for (int i = 0; i < values.length; i += perBuffer) {
+                int n = Math.min(perBuffer, values.length - i);
+                buffer.clear();
+                buffer.asLongBuffer().put(values, i, n);
+                buffer.limit(n * Long.BYTES);
+                writePayload(channel, buffer, crc);
+            }
+
+            writeHeader(channel, DatasetElementType.INT64, byteOrder, sorted, values.length, crc);
+        }
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    private static void writePayload(FileChannel channel, ByteBuffer buffer, CRC32 crc) throws IOException {
+        crc.update(buffer.array(), 0, buffer.limit());
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+
+    /**
+     * Writes the header at the start of the file, once the values and their checksum are known
+     */
+    private static void writeHeader(FileChannel channel, DatasetElementType elementType, ByteOrder byteOrder,
+                                    boolean sorted, long count, CRC32 crc) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(BinaryDatasetFormat.HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+        header.putInt(BinaryDatasetFormat.MAGIC)
+                .put((byte) BinaryDatasetFormat.VERSION)
+                .put((byte) elementType.getCode())
+                .put((byte) (byteOrder == ByteOrder.LITTLE_ENDIAN ? BinaryDatasetFormat.LITTLE_ENDIAN : BinaryDatasetFormat.BIG_ENDIAN))
+                .put((byte) (sorted ? BinaryDatasetFormat.FLAG_SORTED : 0))
+                .putLong(count)
+                .putInt((int) crc.getValue())
+                .putInt(0);
+        header.flip();
+
+        long position = 0;
+        while (header.hasRemaining()) position += channel.write(header, position);
+    }
+}
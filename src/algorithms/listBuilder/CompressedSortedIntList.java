@@ -0,0 +1,313 @@
+package algorithms.listBuilder;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of ints in ascending order, stored compressed. The values are cut into blocks of 128; each block
+ * keeps its first value as is and bit-packs the differences between neighbouring values, all with the width of the
+ * block's largest difference (frame of reference). Dense sorted data therefore takes a few bits per element instead
+ * of the 16 to 20 bytes of a boxed Integer in a list.
+ * <p>
+ * The first values of the blocks act as skip pointers: a lookup binary searches them and then decodes a single
+ * block, and <code>get(index)</code> decodes at most one block. Iteration decodes a block at a time. Being a sorted
+ * RandomAccess list of Integers, the list can be passed to any of the searching algorithms, while
+ * {@link #lowerBound(int)}, {@link #upperBound(int)} and {@link #indexOf(Object)} search it without boxing.
+ */
+public class CompressedSortedIntList extends AbstractList<Integer> implements RandomAccess {
+    private static final int BLOCK_SHIFT = 7;
+
+    /**
+     * Number of values per block, the most a lookup or a <code>get</code> decodes
+     */
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    private final int size;
+    private final int[] firstValues;
+    private final int[] blockWords;
+    private final byte[] widths;
+    private final long[] words;
+
+    /**
+     * Constructor for compressing values in ascending order
+     *
+     * @param sortedValues the values, in ascending order; the array is not kept
+     */
+    public CompressedSortedIntList(int[] sortedValues) {
+        for (int i = 1; i < sortedValues.length; ++i)
+            if (sortedValues[i - 1] > sortedValues[i])
+                throw new IllegalArgumentException("Values must be in ascending order, value " + i + " is out of order");
+
+        size = sortedValues.length;
+        int blocks = (size + BLOCK_MASK) >>> BLOCK_SHIFT;
+        firstValues = new int[blocks];
+        blockWords = new int[blocks + 1];
+        widths = new byte[blocks];
+
+        // Size every block first, so the packed words are allocated once
+        for (int b = 0; b < blocks; ++b) {
+            int from = b << BLOCK_SHIFT, to = Math.min(size, from + BLOCK_SIZE);
+            long largest = 0;
+            for (int i = from + 1; i < to; ++i) largest = Math.max(largest, difference(sortedValues, i));
+
+            firstValues[b] = sortedValues[from];
+            widths[b] = (byte) (Long.SIZE - Long.numberOfLeadingZeros(largest));
+            long bits = (long) (to - from - 1) * widths[b];
+            blockWords[b + 1] = Math.addExact(blockWords[b], (int) ((bits + Long.SIZE - 1) >>> 6));
+        }
+
+        words = new long[blockWords[blocks]];
+        for (int b = 0; b < blocks; ++b) {
+            int from = b << BLOCK_SHIFT, to = Math.min(size, from + BLOCK_SIZE), width = widths[b];
+            if (width == 0) continue;
+
+            long bit = (long) blockWords[b] << 6;
+            for (int i = from + 1; i < to; ++i, bit += width) {
+                long delta = difference(sortedValues, i);
+                int word = (int) (bit >>> 6), shift = (int) (bit & 63);
+                words[word] |= delta << shift;
+                if (shift + width > Long.SIZE) words[word + 1] |= delta >>> (Long.SIZE - shift);
+            }
+        }
+    }
+
+    /**
+     * Constructor for compressing a collection of Integers in ascending order
+     *
+     * @param sortedValues the values, in ascending order
+     */
+    public CompressedSortedIntList(Collection<Integer> sortedValues) {
+        this(toArray(sortedValues));
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    /**
+     * Gets an element without boxing it
+     *
+     * @param index the index of the element
+     * @return the element
+     */
+    public int getInt(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        int block = index >>> BLOCK_SHIFT, width = widths[block];
+        long value = firstValues[block];
+        if (width == 0) return (int) value;
+
+        long bit = (long) blockWords[block] << 6;
+        for (int i = index & BLOCK_MASK; i > 0; --i, bit += width) value += field(bit, width);
+        return (int) value;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the first position whose element is not less than the value
+     *
+     * @param value the value to search for
+     * @return the lower bound, from 0 to size()
+     */
+    public int lowerBound(int value) {
+        return bound(value, false);
+    }
+
+    /**
+     * Finds the first position whose element is greater than the value
+     *
+     * @param value the value to search for
+     * @return the upper bound, from 0 to size()
+     */
+    public int upperBound(int value) {
+        return bound(value, true);
+    }
+
+    /**
+     * Finds the first position of a value with the skip pointers, instead of scanning the list
+     *
+     * @param o the element to search for
+     * @return the index of the first occurrence of the element, -1 otherwise
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Integer)) return -1;
+
+        int value = (Integer) o;
+        int index = lowerBound(value);
+        return index < size && getInt(index) == value ? index : -1;
+    }
+
+    /**
+     * Finds the last position of a value with the skip pointers, instead of scanning the list
+     *
+     * @param o the element to search for
+     * @return the index of the last occurrence of the element, -1 otherwise
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        if (!(o instanceof Integer)) return -1;
+
+        int value = (Integer) o;
+        int index = upperBound(value) - 1;
+        return index >= 0 && getInt(index) == value ? index : -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new BlockIterator();
+    }
+
+    /**
+     * Decompresses the elements into a new array
+     *
+     * @return an array of length size() with the elements in order
+     */
+    public int[] toIntArray() {
+        int[] values = new int[size];
+        for (int b = 0; b < firstValues.length; ++b) decodeBlock(b, values, b << BLOCK_SHIFT);
+        return values;
+    }
+
+    /**
+     * Gets the memory used by the compressed elements and the skip pointers
+     *
+     * @return the size of the compressed data in bytes
+     */
+    public long getMemoryBytes() {
+        return (long) words.length * Long.BYTES + (long) firstValues.length * Integer.BYTES
+                + (long) blockWords.length * Integer.BYTES + widths.length;
+    }
+
+    /**
+     * Gets the average memory used per element
+     *
+     * @return the number of bits per element, or 0 if the list is empty
+     */
+    public double getBitsPerElement() {
+        return size == 0 ? 0 : getMemoryBytes() * 8.0 / size;
+    }
+
+    /**
+     * Finds the lower or upper bound of a value: binary searches the first values of the blocks for the last block
+     * which can hold the bound, then decodes just that block
+     *
+     * @param value the value to search for
+     * @param upper false for the first element not less than the value, true for the first element greater than it
+     * @return the bound, from 0 to size()
+     */
+    private int bound(int value, boolean upper) {
+        int lo = 0, hi = firstValues.length;
+        while (lo < hi) {
+            int middle = (lo + hi) >>> 1;
+            if (isBefore(firstValues[middle], value, upper))
+                lo = middle + 1;
+            else
+                hi = middle;
+        }
+
+        // Every element before block lo is before the bound, and block lo starts at or after it
+        if (lo == 0) return 0;
+
+        int block = lo - 1, width = widths[block];
+        int from = block << BLOCK_SHIFT, to = Math.min(size, from + BLOCK_SIZE);
+        long current = firstValues[block];
+        long bit = (long) blockWords[block] << 6;
+        for (int i = from + 1; i < to; ++i, bit += width) {
+            current += field(bit, width);
+            if (!isBefore(current, value, upper)) return i;
+        }
+
+        return to;
+    }
+
+    private static boolean isBefore(long element, int value, boolean upper) {
+        return upper ? element <= value : element < value;
+    }
+
+    /**
+     * Decodes all elements of a block into an array
+     */
+    private int decodeBlock(int block, int[] target, int offset) {
+        int count = Math.min(BLOCK_SIZE, size - (block << BLOCK_SHIFT)), width = widths[block];
+        long value = firstValues[block];
+        long bit = (long) blockWords[block] << 6;
+
+        target[offset] = (int) value;
+        for (int i = 1; i < count; ++i, bit += width) {
+            value += field(bit, width);
+            target[offset + i] = (int) value;
+        }
+        return count;
+    }
+
+    /**
+     * Reads one bit-packed difference, which may straddle two words
+     */
+    private long field(long bit, int width) {
+        if (width == 0) return 0;
+
+        int word = (int) (bit >>> 6), shift = (int) (bit & 63);
+        long value = words[word] >>> shift;
+        if (shift + width > Long.SIZE) value |= words[word + 1] << (Long.SIZE - shift);
+        return value & (-1L >>> (Long.SIZE - width));
+    }
+
+    /**
+     * Gets the difference between a value and the one before it, which may not fit an int
+     */
+    private static long difference(int[] values, int i) {
+        return (long) values[i] - values[i - 1];
+    }
+
+    private static int[] toArray(Collection<Integer> values) {
+        int[] array = new int[values.size()];
+        int i = 0;
+        for (Integer value : values) array[i++] = value;
+        return array;
+    }
+
+    /**
+     * Iterator decoding one block at a time
+     */
+    private class BlockIterator implements Iterator<Integer> {
+        private final int[] buffer = new int[BLOCK_SIZE];
+        private int next;
+        private int buffered;
+        private int position;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Integer next() {
+            if (next >= size)
+                throw new NoSuchElementException();
+
+            if (position == buffered) {
+                buffered = decodeBlock(next >>> BLOCK_SHIFT, buffer, 0);
+                position = 0;
+            }
+
+            next++;
+            return buffer[position++];
+        }
+    }
+}
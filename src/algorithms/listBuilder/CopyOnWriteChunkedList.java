@@ -0,0 +1,220 @@
+package algorithms.listBuilder;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * List stored in fixed-size chunks, whose copies share the chunks until they are written to. {@link #copy()} takes
+ * constant time whatever the size of the list; afterwards, the first write to a chunk, in the copy or the original,
+ * copies just that chunk (and, on the first write after the copy, the small table of chunk references).
+ * <p>
+ * Reads cost one extra array lookup compared to an ArrayList. Like ArrayList, the list is not thread-safe, but
+ * a list and its copies can be used from different threads, as they never write to shared chunks.
+ *
+ * @param <T> the type of elements in the list
+ */
+public class CopyOnWriteChunkedList<T> extends AbstractList<T> implements RandomAccess {
+    private static final int CHUNK_SHIFT = 12;
+
+    /**
+     * Number of elements per chunk, which is also the most a write copies
+     */
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private Object[][] chunks;
+    private boolean[] owned;
+    private boolean tableShared;
+    private int size;
+
+    /**
+     * Default constructor for an empty list
+     */
+    public CopyOnWriteChunkedList() {
+        chunks = new Object[0][];
+        owned = new boolean[0];
+    }
+
+    /**
+     * Constructor for a list holding the elements of a collection
+     *
+     * @param collection the elements of the list
+     */
+    public CopyOnWriteChunkedList(Collection<? extends T> collection) {
+        this();
+        addAll(collection);
+    }
+
+    private CopyOnWriteChunkedList(Object[][] chunks, int size) {
+        this.chunks = chunks;
+        this.owned = null;
+        this.tableShared = true;
+        this.size = size;
+    }
+
+    /**
+     * Copies the list in constant time; the copy and this list share their chunks until either writes to them
+     *
+     * @return the copy
+     */
+    public CopyOnWriteChunkedList<T> copy() {
+        // Neither list owns any chunk exclusively any more
+        tableShared = true;
+        owned = null;
+        return new CopyOnWriteChunkedList<>(chunks, size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index, size);
+        return (T) chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int index, T element) {
+        checkIndex(index, size);
+        Object[] chunk = writableChunk(index >>> CHUNK_SHIFT);
+        T previous = (T) chunk[index & CHUNK_MASK];
+        chunk[index & CHUNK_MASK] = element;
+        return previous;
+    }
+
+    /**
+     * Replaces every element at once, with those of an array of the list's size. The list gets chunks of its own
+     * filled straight from the array, so chunks shared with copies are neither copied nor written to; afterwards
+     * every chunk is owned, and <code>set</code> on different indices may run from several threads.
+     *
+     * @param elements the new elements, in order
+     */
+    public void setAll(T[] elements) {
+        if (elements.length != size)
+            throw new IllegalArgumentException("Expected " + size + " elements, was " + elements.length);
+
+        int count = (size + CHUNK_MASK) >>> CHUNK_SHIFT;
+        Object[][] filled = new Object[chunks.length][];
+        boolean[] filledOwned = new boolean[chunks.length];
+        for (int c = 0; c < count; ++c) {
+            int from = c << CHUNK_SHIFT;
+            filled[c] = new Object[CHUNK_SIZE];
+            System.arraycopy(elements, from, filled[c], 0, Math.min(CHUNK_SIZE, size - from));
+            filledOwned[c] = true;
+        }
+
+        chunks = filled;
+        owned = filledOwned;
+        tableShared = false;
+    }
+
+    @Override
+    public boolean add(T element) {
+        modCount++;
+        ensureCapacity(size + 1);
+        writableChunk(size >>> CHUNK_SHIFT)[size & CHUNK_MASK] = element;
+        size++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        checkIndex(index, size + 1);
+        add(element);
+
+        // Shift the tail right by one, chunk copies happen on the first write to each chunk
+        for (int i = size - 1; i > index; --i) put(i, fetch(i - 1));
+        put(index, element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        Object[] elements = collection.toArray();
+        if (elements.length == 0) return false;
+
+        modCount++;
+        ensureCapacity(size + elements.length);
+        for (int copied = 0; copied < elements.length; ) {
+            int offset = size & CHUNK_MASK;
+            int n = Math.min(CHUNK_SIZE - offset, elements.length - copied);
+            System.arraycopy(elements, copied, writableChunk(size >>> CHUNK_SHIFT), offset, n);
+            copied += n;
+            size += n;
+        }
+        return true;
+    }
+
+    @Override
+    public T remove(int index) {
+        checkIndex(index, size);
+        T previous = fetch(index);
+
+        modCount++;
+        for (int i = index; i < size - 1; ++i) put(i, fetch(i + 1));
+        put(size - 1, null);
+        size--;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        chunks = new Object[0][];
+        owned = new boolean[0];
+        tableShared = false;
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T fetch(int index) {
+        return (T) chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    private void put(int index, Object element) {
+        writableChunk(index >>> CHUNK_SHIFT)[index & CHUNK_MASK] = element;
+    }
+
+    /**
+     * Gets a chunk this list may write to, copying it (and the chunk table) first if it is shared
+     */
+    private Object[] writableChunk(int c) {
+        if (tableShared) {
+            chunks = chunks.clone();
+            owned = new boolean[chunks.length];
+            tableShared = false;
+        }
+
+        if (!owned[c]) {
+            chunks[c] = chunks[c] == null ? new Object[CHUNK_SIZE] : chunks[c].clone();
+            owned[c] = true;
+        }
+        return chunks[c];
+    }
+
+    /**
+     * Makes sure the chunk table has a slot for every chunk needed to hold a number of elements
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity < 0)
+            throw new OutOfMemoryError("List too large");
+
+        int needed = (capacity + CHUNK_MASK) >>> CHUNK_SHIFT;
+        if (needed > chunks.length) {
+            int length = Math.max(needed, chunks.length * 2);
+            chunks = Arrays.copyOf(chunks, length);
+            owned = tableShared ? new boolean[length] : Arrays.copyOf(owned, length);
+            tableShared = false;
+        }
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+}
@@ -0,0 +1,122 @@
+package algorithms.listBuilder;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Record with several sort keys, for measuring sorts whose comparisons look at more than one field. The natural
+ * order compares the category, then the priority, then the timestamp, then the name, and the comparators below
+ * give other chains of keys.
+ *
+ * @see RecordListBuilder
+ */
+public final class DataRecord implements Comparable<DataRecord> {
+    /**
+     * Orders records by timestamp alone
+     */
+    public static final Comparator<DataRecord> BY_TIMESTAMP = Comparator.comparingLong(DataRecord::getTimestamp);
+
+    /**
+     * Orders records by name, then by timestamp
+     */
+    public static final Comparator<DataRecord> BY_NAME = Comparator.comparing(DataRecord::getName)
+            .thenComparingLong(DataRecord::getTimestamp);
+
+    /**
+     * Orders records by highest priority first, then by category, then by name
+     */
+    public static final Comparator<DataRecord> BY_PRIORITY_DESCENDING = Comparator.comparingInt(DataRecord::getPriority)
+            .reversed()
+            .thenComparing(DataRecord::getCategory)
+            .thenComparing(DataRecord::getName);
+
+    private final String category;
+    private final int priority;
+    private final long timestamp;
+    private final String name;
+
+    /**
+     * Constructor for a record from its fields
+     *
+     * @param category  the category, the first key of the natural order
+     * @param priority  the priority, the second key of the natural order
+     * @param timestamp the timestamp, the third key of the natural order
+     * @param name      the name, the last key of the natural order
+     */
+    public DataRecord(String category, int priority, long timestamp, String name) {
+        this.category = Objects.requireNonNull(category);
+        this.priority = priority;
+        this.timestamp = timestamp;
+        this.name = Objects.requireNonNull(name);
+    }
+
+    /**
+     * Gets the category of the record
+     *
+     * @return the category
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * Gets the priority of the record
+     *
+     * @return the priority
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Gets the timestamp of the record
+     *
+     * @return the timestamp
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets the name of the record
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int compareTo(DataRecord other) {
+        int result = category.compareTo(other.category);
+        if (result == 0) result = Integer.compare(priority, other.priority);
+        if (result == 0) result = Long.compare(timestamp, other.timestamp);
+        if (result == 0) result = name.compareTo(other.name);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DataRecord)) return false;
+
+        DataRecord other = (DataRecord) o;
+        return priority == other.priority && timestamp == other.timestamp
+                && category.equals(other.category) && name.equals(other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(category, priority, timestamp, name);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "category=" + category +
+                ", priority=" + priority +
+                ", timestamp=" + timestamp +
+                ", name=" + name +
+                "}";
+    }
+}
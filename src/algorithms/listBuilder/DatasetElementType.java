@@ -0,0 +1,65 @@
+package algorithms.listBuilder;
+
+/**
+ * Enumeration of the element types a binary dataset can hold
+ *
+ * @see BinaryDatasetWriter
+ * @see BinaryDatasetReader
+ */
+public enum DatasetElementType {
+
+    INT32("Int32", 1, Integer.BYTES),
+    INT64("Int64", 2, Long.BYTES);
+
+    /**
+     * Name of the element type
+     */
+    private final String typeName;
+
+    /**
+     * Code of the element type in a dataset header
+     */
+    private final int code;
+
+    /**
+     * Size of one element in bytes
+     */
+    private final int width;
+
+    DatasetElementType(String typeName, int code, int width) {
+        this.typeName = typeName;
+        this.code = code;
+        this.width = width;
+    }
+
+    /**
+     * Gets the size of one element
+     *
+     * @return the size in bytes
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    int getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the element type with a header code
+     *
+     * @param code the code from a dataset header
+     * @return the element type, or null if the code is unknown
+     */
+    static DatasetElementType fromCode(int code) {
+        for (DatasetElementType type : values())
+            if (type.code == code) return type;
+
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return typeName;
+    }
+}
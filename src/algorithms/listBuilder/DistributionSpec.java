@@ -0,0 +1,220 @@
+package algorithms.listBuilder;
+
+import java.util.Objects;
+
+/**
+ * Describes the shape of a generated data set of <code>n</code> ints: a distribution type and its parameters.
+ * Parameters which do not apply to the type are ignored.
+ * <ul>
+ * <li>UNIFORM: random values from 1 to n</li>
+ * <li>SORTED, REVERSE_SORTED: 1 to n, ascending or descending</li>
+ * <li>NEARLY_SORTED: 1 to n ascending, with a <code>disorder</code> fraction of the values swapped with others
+ * close by (within the same 64K values)</li>
+ * <li>ORGAN_PIPE: ascending up to the middle, then descending</li>
+ * <li>SAWTOOTH: ascending runs of <code>runLength</code> values, each starting again from 1</li>
+ * <li>FEW_UNIQUE: random values from 1 to <code>cardinality</code></li>
+ * <li>ZIPF: values from 1 to <code>cardinality</code>, value <code>k</code> drawn with a probability proportional to
+ * <code>1 / k^skew</code></li>
+ * <li>SORTED_WITH_APPENDS: 1 upwards ascending, followed by a <code>disorder</code> fraction of random values
+ * from 1 to n</li>
+ * </ul>
+ * Specs are built with {@link #builder(DistributionType)}.
+ *
+ * @see IntegerDataGenerator#generate(int, DistributionSpec)
+ */
+public final class DistributionSpec {
+    private final DistributionType type;
+    private final double disorder;
+    private final int runLength;
+    private final int cardinality;
+    private final double skew;
+
+    private DistributionSpec(Builder builder) {
+        this.type = builder.type;
+        this.disorder = builder.disorder;
+        this.runLength = builder.runLength;
+        this.cardinality = builder.cardinality;
+        this.skew = builder.skew;
+    }
+
+    /**
+     * Starts building a spec for a distribution type, with default parameters
+     *
+     * @param type the distribution type
+     * @return the builder
+     */
+    public static Builder builder(DistributionType type) {
+        return new Builder(type);
+    }
+
+    /**
+     * Gets a spec for a distribution type with default parameters
+     *
+     * @param type the distribution type
+     * @return the spec
+     */
+    public static DistributionSpec of(DistributionType type) {
+        return builder(type).build();
+    }
+
+    /**
+     * Gets the distribution type
+     *
+     * @return the distribution type
+     */
+    public DistributionType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the fraction of values out of place
+     *
+     * @return the disorder, from 0 to 1
+     */
+    public double getDisorder() {
+        return disorder;
+    }
+
+    /**
+     * Gets the length of the ascending runs
+     *
+     * @return the run length
+     */
+    public int getRunLength() {
+        return runLength;
+    }
+
+    /**
+     * Gets the number of distinct values
+     *
+     * @return the cardinality
+     */
+    public int getCardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Gets the exponent of the Zipf distribution
+     *
+     * @return the skew
+     */
+    public double getSkew() {
+        return skew;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DistributionSpec that = (DistributionSpec) o;
+        return Double.compare(that.disorder, disorder) == 0 && runLength == that.runLength &&
+                cardinality == that.cardinality && Double.compare(that.skew, skew) == 0 && type == that.type;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, disorder, runLength, cardinality, skew);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "type=" + type +
+                ", disorder=" + disorder +
+                ", runLength=" + runLength +
+                ", cardinality=" + cardinality +
+                ", skew=" + skew +
+                "}";
+    }
+
+    /**
+     * Builder for a DistributionSpec
+     */
+    public static class Builder {
+        private static final double DEFAULT_DISORDER = 0.05;
+        private static final int DEFAULT_RUN_LENGTH = 64;
+        private static final int DEFAULT_CARDINALITY = 16;
+        private static final double DEFAULT_SKEW = 1.0;
+
+        private final DistributionType type;
+        private double disorder = DEFAULT_DISORDER;
+        private int runLength = DEFAULT_RUN_LENGTH;
+        private int cardinality = DEFAULT_CARDINALITY;
+        private double skew = DEFAULT_SKEW;
+
+        private Builder(DistributionType type) {
+            this.type = Objects.requireNonNull(type);
+        }
+
+        /**
+         * Sets the fraction of values out of place, for NEARLY_SORTED and SORTED_WITH_APPENDS
+         *
+         * @param disorder the fraction, from 0 to 1
+         * @return the builder
+         */
+        public Builder disorder(double disorder) {
+            if (!(disorder >= 0 && disorder <= 1))
+                throw new IllegalArgumentException("Disorder must be between 0 and 1, was " + disorder);
+            this.disorder = disorder;
+            return this;
+        }
+
+        /**
+         * Sets the disorder as a percentage
+         *
+         * @param percentage the percentage of values out of place, from 0 to 100
+         * @return the builder
+         */
+        public Builder disorderPercentage(double percentage) {
+            return disorder(percentage / 100);
+        }
+
+        /**
+         * Sets the length of the ascending runs, for SAWTOOTH
+         *
+         * @param runLength the run length, at least 1
+         * @return the builder
+         */
+        public Builder runLength(int runLength) {
+            if (runLength < 1)
+                throw new IllegalArgumentException("Run length must be at least 1, was " + runLength);
+            this.runLength = runLength;
+            return this;
+        }
+
+        /**
+         * Sets the number of distinct values, for FEW_UNIQUE and ZIPF
+         *
+         * @param cardinality the number of distinct values, at least 1
+         * @return the builder
+         */
+        public Builder cardinality(int cardinality) {
+            if (cardinality < 1)
+                throw new IllegalArgumentException("Cardinality must be at least 1, was " + cardinality);
+            this.cardinality = cardinality;
+            return this;
+        }
+
+        /**
+         * Sets the exponent of the Zipf distribution; 0 is uniform, and larger values favour small values more
+         *
+         * @param skew the exponent, not negative
+         * @return the builder
+         */
+        public Builder skew(double skew) {
+            if (!(skew >= 0))
+                throw new IllegalArgumentException("Skew must not be negative, was " + skew);
+            this.skew = skew;
+            return this;
+        }
+
+        /**
+         * Creates the spec
+         *
+         * @return the spec
+         */
+        public DistributionSpec build() {
+            return new DistributionSpec(this);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package algorithms.listBuilder;
+
+/**
+ * Enumeration of the shapes of generated input data
+ *
+ * @see DistributionSpec
+ */
+public enum DistributionType {
+
+    UNIFORM("Uniform"),
+    SORTED("Sorted"),
+    REVERSE_SORTED("ReverseSorted"),
+    NEARLY_SORTED("NearlySorted"),
+    ORGAN_PIPE("OrganPipe"),
+    SAWTOOTH("Sawtooth"),
+    FEW_UNIQUE("FewUnique"),
+    ZIPF("Zipf"),
+    SORTED_WITH_APPENDS("SortedWithAppends");
+
+    /**
+     * Name of the distribution
+     */
+    private final String distributionName;
+
+    /**
+     * Constructor for setting the name of the distribution to its
+     * enum value
+     *
+     * @param distributionName the name of the distribution
+     */
+    DistributionType(String distributionName) {
+        this.distributionName = distributionName;
+    }
+
+    @Override
+    public String toString() {
+        return distributionName;
+    }
+}
@@ -0,0 +1,196 @@
+package algorithms.listBuilder;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Growable list of ints kept in a primitive array. It behaves like an <code>ArrayList&lt;Integer&gt;</code>, but
+ * stores four bytes per element instead of a reference to a boxed Integer, and offers unboxed accessors so scans
+ * over it can run on the raw array.
+ * Null elements are not allowed.
+ */
+public class IntArrayList extends AbstractList<Integer> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int size;
+
+    /**
+     * Default constructor for an empty list
+     */
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for an empty list with room for a number of elements
+     *
+     * @param initialCapacity the number of elements the list can hold before growing
+     */
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+
+        elements = new int[initialCapacity];
+    }
+
+    /**
+     * Constructor for a list holding a copy of an array
+     *
+     * @param values the elements of the list
+     */
+    public IntArrayList(int[] values) {
+        elements = values.clone();
+        size = values.length;
+    }
+
+    /**
+     * Constructor for a list taking over an array, without copying it
+     *
+     * @param elements the backing array
+     * @param size     the number of elements in use at the start of the array
+     */
+    IntArrayList(int[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    /**
+     * Gets an element without boxing it
+     *
+     * @param index the index of the element
+     * @return the element
+     */
+    public int getInt(int index) {
+        checkIndex(index, size);
+        return elements[index];
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+        return setInt(index, element);
+    }
+
+    /**
+     * Replaces an element without boxing it
+     *
+     * @param index   the index of the element
+     * @param element the new element
+     * @return the element previously at the index
+     */
+    public int setInt(int index, int element) {
+        checkIndex(index, size);
+        int previous = elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+    @Override
+    public boolean add(Integer element) {
+        addInt(element);
+        return true;
+    }
+
+    /**
+     * Appends an element without boxing it
+     *
+     * @param element the element to append
+     */
+    public void addInt(int element) {
+        modCount++;
+        if (size == elements.length) grow(size + 1);
+        elements[size++] = element;
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+        checkIndex(index, size + 1);
+        int value = element;
+
+        modCount++;
+        if (size == elements.length) grow(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        checkIndex(index, size);
+
+        modCount++;
+        int previous = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Makes sure the list can hold a number of elements without growing
+     *
+     * @param capacity the number of elements
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > elements.length) grow(capacity);
+    }
+
+    /**
+     * Sets the number of elements in use, after they were written to the backing array directly
+     *
+     * @param size the new size, at most the capacity
+     */
+    void setSize(int size) {
+        if (size < 0 || size > elements.length)
+            throw new IndexOutOfBoundsException("Size: " + size + ", Capacity: " + elements.length);
+
+        modCount++;
+        this.size = size;
+    }
+
+    /**
+     * Gets the backing array, which holds the elements at indices <code>0</code> to <code>size() - 1</code>.
+     * The array is not copied: it is only valid until the list next grows, and writes to it change the list
+     *
+     * @return the backing array
+     */
+    public int[] array() {
+        return elements;
+    }
+
+    /**
+     * Copies the elements into a new array
+     *
+     * @return an array of length size() with the elements in order
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+        if (capacity < 0) capacity = Integer.MAX_VALUE - 8;
+        elements = Arrays.copyOf(elements, capacity);
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+}
@@ -0,0 +1,223 @@
+package algorithms.listBuilder;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Loads whitespace-separated decimal integers from a text file. The file is memory-mapped and parsed byte by byte,
+ * straight into an int array, without going through readers, strings or regular expressions. Large files can be
+ * parsed in parallel: the file is cut into chunks at whitespace, and each chunk is parsed on its own. The numbers are
+ * counted in a first pass, so they are parsed straight into their place in one array of the final size, and loading
+ * takes no more memory than the result.
+ * <p>
+ * Numbers may have a leading sign and must fit in an int. Anything else in the file fails the load with a
+ * NumberFormatException giving the byte offset of the problem.
+ */
+public final class IntFileLoader {
+    /**
+     * Largest part of the file mapped at once (a single mapping is limited to 2GB)
+     */
+    private static final long MAX_REGION_SIZE = 1L << 30;
+
+    /**
+     * Smallest chunk parsed by one task when loading in parallel
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 20;
+
+    private IntFileLoader() {
+    }
+
+    /**
+     * Loads the integers of a file on the calling thread
+     *
+     * @param path the file to load
+     * @return the integers in file order
+     * @throws IOException if the file cannot be read
+     */
+    public static int[] load(Path path) throws IOException {
+        return load(path, false);
+    }
+
+    /**
+     * Loads the integers of a file
+     *
+     * @param path     the file to load
+     * @param parallel whether to parse chunks of the file on the common fork-join pool
+     * @return the integers in file order
+     * @throws IOException if the file cannot be read
+     */
+    public static int[] load(Path path, boolean parallel) throws IOException {
+        List<Region> regions = new ArrayList<>();
+        long total = 0;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+
+            // Count the numbers first, so they are parsed straight into an array of the final size
+            while (position < size) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_REGION_SIZE, size - position));
+                boolean last = position + buffer.capacity() == size;
+                int end = last ? buffer.capacity() : lastWhitespace(buffer, position) + 1;
+
+                Region region = new Region(buffer, end, position, parallel);
+                regions.add(region);
+                total += region.count();
+                position += end;
+            }
+        }
+
+        int[] values = new int[Math.toIntExact(total)];
+        int at = 0;
+        for (Region region : regions) at = region.parseInto(values, at, parallel);
+        return values;
+    }
+
+    /**
+     * Loads the integers of a file into a list
+     *
+     * @param path     the file to load
+     * @param parallel whether to parse chunks of the file on the common fork-join pool
+     * @return the integers in file order
+     * @throws IOException if the file cannot be read
+     */
+    public static IntArrayList loadList(Path path, boolean parallel) throws IOException {
+        int[] values = load(path, parallel);
+        return new IntArrayList(values, values.length);
+    }
+
+    /**
+     * Parses the integers between two positions of a buffer, which start and end at whitespace or at the
+     * ends of the file, into an array
+     *
+     * @param buffer the mapped bytes
+     * @param from   the first byte to parse (inclusive)
+     * @param to     the last byte to parse (exclusive)
+     * @param offset the file offset of the buffer, for error messages
+     * @param values the array to write the integers to, with room for every number counted in the range
+     * @param at     the index of the first integer in the array
+     */
+    private static void parse(MappedByteBuffer buffer, int from, int to, long offset, int[] values, int at) {
+        int i = from;
+
+        while (true) {
+            while (i < to && isWhitespace(buffer.get(i))) i++;
+            if (i == to) break;
+
+            byte b = buffer.get(i);
+            boolean negative = b == '-';
+            if (negative || b == '+') i++;
+
+            int start = i;
+            long value = 0;
+            while (i < to && (b = buffer.get(i)) >= '0' && b <= '9') {
+                value = value * 10 + (b - '0');
+                if (value > (long) Integer.MAX_VALUE + 1)
+                    throw new NumberFormatException("Integer out of range at byte " + (offset + start));
+                i++;
+            }
+
+            if (i == start || (i < to && !isWhitespace(buffer.get(i))))
+                throw new NumberFormatException("Not an integer at byte " + (offset + i));
+            if (!negative && value > Integer.MAX_VALUE)
+                throw new NumberFormatException("Integer out of range at byte " + (offset + start));
+
+            values[at++] = (int) (negative ? -value : value);
+        }
+    }
+
+    /**
+     * Counts the whitespace-separated tokens between two positions of a buffer, which start at whitespace or at the
+     * start of the file. Every token must be a number for the parse to succeed, so this is the number of integers
+     */
+    private static int countTokens(MappedByteBuffer buffer, int from, int to) {
+        int count = 0;
+        boolean inToken = false;
+        for (int i = from; i < to; ++i) {
+            boolean whitespace = isWhitespace(buffer.get(i));
+            if (!whitespace && !inToken) count++;
+            inToken = !whitespace;
+        }
+        return count;
+    }
+
+    /**
+     * Finds the last whitespace in a mapped region which does not reach the end of the file
+     */
+    private static int lastWhitespace(MappedByteBuffer buffer, long offset) {
+        for (int i = buffer.capacity() - 1; i >= 0; --i)
+            if (isWhitespace(buffer.get(i))) return i;
+
+        throw new NumberFormatException("Not an integer at byte " + offset);
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == '\f';
+    }
+
+    /**
+     * Mapped region of the file, cut into chunks at whitespace, with the number of integers in each chunk
+     */
+    private static final class Region {
+        private final MappedByteBuffer buffer;
+        private final long offset;
+        private final int[] bounds;
+        private final int[] counts;
+
+        /**
+         * Cuts the first <code>end</code> bytes of a mapped region into chunks, in parallel chunks if requested, and
+         * counts the integers in each
+         */
+        Region(MappedByteBuffer buffer, int end, long offset, boolean parallel) {
+            this.buffer = buffer;
+            this.offset = offset;
+
+            int chunks = parallel ? Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4, end / MIN_CHUNK_SIZE)) : 1;
+
+            // Move every chunk boundary forward to the next whitespace, so no number is split
+            bounds = new int[chunks + 1];
+            bounds[chunks] = end;
+            for (int c = 1; c < chunks; ++c) {
+                int bound = Math.max(bounds[c - 1], (int) ((long) end * c / chunks));
+                while (bound < end && !isWhitespace(buffer.get(bound))) bound++;
+                bounds[c] = bound;
+            }
+
+            counts = new int[chunks];
+            chunkIndices(parallel).forEach(c -> counts[c] = countTokens(buffer, bounds[c], bounds[c + 1]));
+        }
+
+        long count() {
+            long count = 0;
+            for (int chunkCount : counts) count += chunkCount;
+            return count;
+        }
+
+        /**
+         * Parses every chunk into its place in the array
+         *
+         * @return the index after the region's last integer
+         */
+        int parseInto(int[] values, int at, boolean parallel) {
+            int[] starts = new int[counts.length];
+            for (int c = 0; c < counts.length; ++c) {
+                starts[c] = at;
+                at += counts[c];
+            }
+
+            chunkIndices(parallel).forEach(c -> parse(buffer, bounds[c], bounds[c + 1], offset, values, starts[c]));
+            return at;
+        }
+
+        private IntStream chunkIndices(boolean parallel) {
+            IntStream indices = IntStream.range(0, counts.length);
+            return parallel ? indices.parallel() : indices;
+        }
+    }
+}
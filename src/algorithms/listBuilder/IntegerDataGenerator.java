@@ -0,0 +1,237 @@
+package algorithms.listBuilder;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Generates large int data sets straight into primitive arrays. The output is cut into fixed-size chunks, and each
+ * chunk draws from its own SplittableRandom seeded from the generator's seed and the chunk's number, so chunks can be
+ * filled on any number of threads in any order and the output only ever depends on the seed.
+ */
+public class IntegerDataGenerator {
+    /**
+     * Number of values drawn from one random generator. Fixed, so the output does not depend on the number of threads
+     */
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    /**
+     * Smallest output generated in parallel
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 18;
+
+    private final long seed;
+
+    /**
+     * Constructor for a generator whose output is fully determined by the seed
+     *
+     * @param seed the seed of all values generated
+     */
+    public IntegerDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Generates uniformly distributed values
+     *
+     * @param count  the number of values
+     * @param origin the smallest value (inclusive)
+     * @param bound  the upper bound of the values (exclusive), greater than origin
+     * @return the values
+     */
+    public int[] uniform(int count, int origin, int bound) {
+        int[] values = new int[checkCount(count)];
+        uniform(values, 0, count, origin, bound);
+        return values;
+    }
+
+    /**
+     * Generates values in the shape of a distribution
+     *
+     * @param count the number of values
+     * @param spec  the distribution and its parameters
+     * @return the values
+     */
+    public int[] generate(int count, DistributionSpec spec) {
+        int[] values = new int[checkCount(count)];
+        generate(values, 0, count, spec);
+        return values;
+    }
+
+    /**
+     * Generates uniformly distributed values into part of an array; the values only depend on the seed and count,
+     * not on where they are written
+     *
+     * @param target the array to write to
+     * @param offset the index of the first value in the array
+     * @param count  the number of values
+     * @param origin the smallest value (inclusive)
+     * @param bound  the upper bound of the values (exclusive), greater than origin
+     */
+    void uniform(int[] target, int offset, int count, int origin, int bound) {
+        if (origin >= bound)
+            throw new IllegalArgumentException("Bound must be greater than origin: " + origin + " >= " + bound);
+
+        fill(target, offset, count, (random, values, from, to) -> {
+            for (int i = from; i < to; ++i) values[i] = random.nextInt(origin, bound);
+        });
+    }
+
+    /**
+     * Generates values in the shape of a distribution into part of an array; the values only depend on the seed,
+     * count and spec, not on where they are written
+     *
+     * @param target the array to write to
+     * @param offset the index of the first value in the array
+     * @param count  the number of values
+     * @param spec   the distribution and its parameters
+     */
+    void generate(int[] target, int offset, int count, DistributionSpec spec) {
+        int n = count;
+
+        switch (spec.getType()) {
+            case SORTED:
+                fill(target, offset, n, (random, values, from, to) -> {
+                    for (int i = from; i < to; ++i) values[i] = i - offset + 1;
+                });
+                break;
+            case REVERSE_SORTED:
+                fill(target, offset, n, (random, values, from, to) -> {
+                    for (int i = from; i < to; ++i) values[i] = n - (i - offset);
+                });
+                break;
+            case NEARLY_SORTED:
+                fill(target, offset, n, (random, values, from, to) -> {
+                    for (int i = from; i < to; ++i) values[i] = i - offset + 1;
+
+                    // Each swap moves two values out of place
+                    long swaps = Math.round((to - from) * spec.getDisorder() / 2);
+                    for (long s = 0; s < swaps; ++s) swap(values, random.nextInt(from, to), random.nextInt(from, to));
+                });
+                break;
+            case ORGAN_PIPE:
+                fill(target, offset, n, (random, values, from, to) -> {
+                    for (int i = from; i < to; ++i) values[i] = i - offset < (n + 1) / 2 ? i - offset + 1 : n - (i - offset);
+                });
+                break;
+            case SAWTOOTH:
+                fill(target, offset, n, (random, values, from, to) -> {
+                    for (int i = from; i < to; ++i) values[i] = (i - offset) % spec.getRunLength() + 1;
+                });
+                break;
+            case FEW_UNIQUE:
+                fill(target, offset, n, (random, values, from, to) -> {
+                    for (int i = from; i < to; ++i) values[i] = random.nextInt(spec.getCardinality()) + 1;
+                });
+                break;
+            case ZIPF:
+                double[] cumulative = zipfCumulative(spec.getCardinality(), spec.getSkew());
+                fill(target, offset, n, (random, values, from, to) -> {
+                    for (int i = from; i < to; ++i) values[i] = sampleZipf(cumulative, random.nextDouble());
+                });
+                break;
+            case SORTED_WITH_APPENDS:
+                int sortedCount = n - (int) Math.round(n * spec.getDisorder());
+                fill(target, offset, n, (random, values, from, to) -> {
+                    for (int i = from; i < to; ++i) values[i] = i - offset < sortedCount ? i - offset + 1 : random.nextInt(n) + 1;
+                });
+                break;
+            default:
+                fill(target, offset, n, (random, values, from, to) -> {
+                    for (int i = from; i < to; ++i) values[i] = random.nextInt(n) + 1;
+                });
+                break;
+        }
+    }
+
+    /**
+     * Fills part of an array chunk by chunk, in parallel if it is large. Chunks are counted from the offset, so the
+     * values do not depend on where in the array they are written
+     *
+     * @param target the array to fill
+     * @param offset the index of the first value to fill
+     * @param count  the number of values to fill
+     * @param filler fills one chunk
+     */
+    void fill(int[] target, int offset, int count, ChunkFiller filler) {
+        if (offset < 0 || count < 0 || offset > target.length - count)
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + count + ") out of bounds for length " + target.length);
+
+        int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream stream = IntStream.range(0, chunks);
+        if (count >= PARALLEL_THRESHOLD) stream = stream.parallel();
+
+        stream.forEach(c -> filler.fill(new SplittableRandom(mix(seed, c)), target,
+                offset + c * CHUNK_SIZE, offset + Math.min(count, (c + 1) * CHUNK_SIZE)));
+    }
+
+    /**
+     * Derives the seed of one stream of random values (a chunk, a bucket) from a seed and the stream's number, so
+     * every stream is independent of the others and of the order they are used in (the finalizer of MurmurHash3)
+     *
+     * @param seed   the seed all streams derive from
+     * @param stream the number of the stream
+     * @return the seed of the stream
+     */
+    static long mix(long seed, int stream) {
+        long h = seed + (stream + 1) * 0x9E3779B97F4A7C15L;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    /**
+     * Gets the cumulative probabilities of the values 1 to cardinality under a Zipf distribution
+     */
+    private static double[] zipfCumulative(int cardinality, double skew) {
+        double[] cumulative = new double[cardinality];
+        double total = 0;
+        for (int k = 0; k < cardinality; ++k) {
+            total += 1 / Math.pow(k + 1, skew);
+            cumulative[k] = total;
+        }
+        for (int k = 0; k < cardinality; ++k) cumulative[k] /= total;
+        return cumulative;
+    }
+
+    /**
+     * Finds the value whose cumulative probability is the first to reach <code>u</code>
+     */
+    private static int sampleZipf(double[] cumulative, double u) {
+        int lo = 0, hi = cumulative.length - 1;
+        while (lo < hi) {
+            int middle = (lo + hi) >>> 1;
+            if (cumulative[middle] < u)
+                lo = middle + 1;
+            else
+                hi = middle;
+        }
+        return lo + 1;
+    }
+
+    static int checkCount(int count) {
+        if (count < 0)
+            throw new IllegalArgumentException("Count must not be negative, was " + count);
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "seed=" + seed +
+                "}";
+    }
+
+    /**
+     * Fills the positions <code>[from, to)</code> of a target array from a chunk's random generator
+     */
+    @FunctionalInterface
+    interface ChunkFiller {
+        void fill(SplittableRandom random, int[] target, int from, int to);
+    }
+}
@@ -1,20 +1,16 @@
 package algorithms.listBuilder;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.function.IntFunction;
 
 /**
- * Implementation class of the ListBuilder interface
+ * Implementation class of the ListBuilder interface. Every rank generated by the maker methods is used as is, so
+ * makeRandom draws Integers from 1 to 1000 and makeSorted counts from 1
  *
  * @author Camilo Espinosa (https://github.com/Camiloesp)
  * @see algorithms.listBuilder.ListBuilder
  */
-public class IntegerListBuilder implements ListBuilder<Integer> {
-    private static final int DEFAULT_MAKER_METHOD_ITEMS = 20;
-
-    private int makerMethodItems;
-    private List<Integer> backingList;
-
+public class IntegerListBuilder extends BaseRankedListBuilder<Integer> {
     /**
      * Default constructor for initializing internal collection of items
      */
@@ -28,8 +24,7 @@ public class IntegerListBuilder implements ListBuilder<Integer> {
      * @param numberOfItemsForMakerMethods the number of items to add to the list when making a random or sorted list
      */
     public IntegerListBuilder(int numberOfItemsForMakerMethods) {
-        this.backingList = new ArrayList<>();
-        this.makerMethodItems = numberOfItemsForMakerMethods;
+        this(new CopyOnWriteChunkedList<>(), numberOfItemsForMakerMethods);
     }
 
     /**
@@ -39,110 +34,29 @@ public class IntegerListBuilder implements ListBuilder<Integer> {
      * @param numberOfItemsForMakerMethods the number of items to add to the list when making a random or sorted list
      */
     private IntegerListBuilder(List<Integer> list, int numberOfItemsForMakerMethods) {
-        this.backingList = list;
-        this.makerMethodItems = numberOfItemsForMakerMethods;
-    }
-
-    /**
-     * If the internal list is empty, then this method will build a list of random integers. Otherwise,
-     * it will return the builder immediately
-     *
-     * @return the builder of type Integer
-     */
-    public ListBuilder<Integer> makeRandom() {
-        if (backingList.isEmpty()) {
-            Random rand = new Random();
-            for (int i = 0; i < makerMethodItems; ++i) {
-                int j = rand.nextInt(1000) + 1;
-                backingList.add(j);
-            }
-        }
-        return this;
-    }
-
-    /**
-     * If the internal list is empty, then this method will build an ordered list. Otherwise,
-     * it will return the builder immediately
-     *
-     * @return the builder of type Integer
-     */
-    public ListBuilder<Integer> makeSorted() {
-        if (backingList.isEmpty()) {
-            for (int i = 0; i < makerMethodItems; ++i) {
-                backingList.add(i + 1);
-            }
-        }
-        return this;
-    }
-
-    /**
-     * Adds a collection of Integers to the builders list
-     *
-     * @param collection the items to add
-     * @return the builder of type Integer
-     */
-    @Override
-    public ListBuilder<Integer> add(Collection<Integer> collection) {
-        if (collection != null) {
-            backingList.addAll(collection);
-        }
-        return this;
-    }
-
-    /**
-     * Adds an Integer to the builders list
-     *
-     * @param item the item to be added to the builder
-     * @return the builder of type Integer
-     */
-    @Override
-    public ListBuilder<Integer> add(Integer item) {
-        backingList.add(item);
-        return this;
-    }
-
-    /**
-     * Shuffles the items in the builder
-     *
-     * @return the builder of type Integer
-     */
-    @Override
-    public ListBuilder<Integer> shuffle() {
-        Collections.shuffle(backingList);
-        return this;
-    }
-
-    /**
-     * This method will print the elements of an array
-     *
-     * @return the builder of type Integer
-     */
-    public ListBuilder<Integer> print() {
-        System.out.print("List: ");
-        for (int i = 0; i < backingList.size(); ++i) {
-            System.out.print(backingList.get(i) + " ");
-        }
-        return this;
+        super(list, numberOfItemsForMakerMethods);
     }
 
     /**
-     * Creates the complete list
+     * Maps every rank to the Integer of the same value
      *
-     * @return the list of Integers from the builder
+     * @param minRank the smallest rank which will be mapped
+     * @param maxRank the largest rank which will be mapped
+     * @return the function boxing a rank
      */
     @Override
-    public List<Integer> build() {
-        return backingList;
+    protected IntFunction<Integer> itemsForRanks(int minRank, int maxRank) {
+        return Integer::valueOf;
     }
 
     /**
-     * Clones the builder of type Integer
+     * Clones the builder of type Integer. The items are shared copy-on-write, so the clone takes constant time
+     * and neither builder sees the other's changes
      *
      * @return a deep-copy of the builder of type Integer
      */
     @Override
     public ListBuilder<Integer> deepClone() {
-        List<Integer> newList = backingList.stream().collect(Collectors.toList());
-        return new IntegerListBuilder(newList, makerMethodItems);
+        return new IntegerListBuilder(copyItems(), makerMethodItems);
     }
 }
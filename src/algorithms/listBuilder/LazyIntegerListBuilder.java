@@ -0,0 +1,376 @@
+package algorithms.listBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Lazy implementation of the ListBuilder interface for Integers. Calls only record what to do; the recorded steps
+ * run when the list is built (or printed), all into one int array allocated at its final size, so building a large
+ * input costs one allocation and one pass instead of a chain of boxed, resizing ArrayList operations.
+ * <p>
+ * The recorded steps are fused where that gives the same result:
+ * <ul>
+ * <li>maker methods on a list which will not be empty, and shuffles of lists with fewer than two items,
+ * are not recorded, as the eager builder would do nothing for them</li>
+ * <li>an unseeded shuffle right after another unseeded shuffle is dropped, since one is already uniformly random</li>
+ * <li>an unseeded shuffle of values which were all drawn independently from a fresh seed (unseeded makeRandom) is
+ * dropped, since they are already in random order; values from a given seed still get shuffled, as their order
+ * would otherwise be the same on every build</li>
+ * <li>makeSorted followed by an unseeded shuffle generates the shuffled values in a single pass</li>
+ * </ul>
+ * Seeded maker methods and shuffles produce the same values as IntegerListBuilder's. The built list is an IntArrayList, so null
+ * items are not allowed.
+ *
+ * @see IntegerListBuilder
+ */
+public class LazyIntegerListBuilder implements ListBuilder<Integer> {
+    private static final int DEFAULT_MAKER_METHOD_ITEMS = 20;
+
+    private final int makerMethodItems;
+    private final IntArrayList items;
+    private final List<Step> steps;
+    private int pendingSize;
+
+    /**
+     * Default constructor for initializing internal collection of items
+     */
+    public LazyIntegerListBuilder() {
+        this(DEFAULT_MAKER_METHOD_ITEMS);
+    }
+
+    /**
+     * Constructor for initializing internal collection of items
+     *
+     * @param numberOfItemsForMakerMethods the number of items to add to the list when making a random or sorted list
+     */
+    public LazyIntegerListBuilder(int numberOfItemsForMakerMethods) {
+        this(new IntArrayList(0), new ArrayList<>(), numberOfItemsForMakerMethods);
+    }
+
+    private LazyIntegerListBuilder(IntArrayList items, List<Step> steps, int numberOfItemsForMakerMethods) {
+        this.items = items;
+        this.steps = steps;
+        this.makerMethodItems = IntegerDataGenerator.checkCount(numberOfItemsForMakerMethods);
+        this.pendingSize = items.size();
+        for (Step step : steps) pendingSize += step.size();
+    }
+
+    /**
+     * If the list will be empty at this point, then this method will record making a list of random integers.
+     * Otherwise, it will return the builder immediately
+     *
+     * @return the builder of type Integer
+     */
+    @Override
+    public ListBuilder<Integer> makeRandom() {
+        if (pendingSize == 0)
+            record(new Generate(makerMethodItems, null, new Random().nextLong(), false));
+        return this;
+    }
+
+    /**
+     * If the list will be empty at this point, then this method will record making a list of random integers
+     * from a seed. Otherwise, it will return the builder immediately
+     *
+     * @param seed the seed the integers are generated from
+     * @return the builder of type Integer
+     */
+    @Override
+    public ListBuilder<Integer> makeRandom(long seed) {
+        if (pendingSize == 0)
+            record(new Generate(makerMethodItems, null, seed, true));
+        return this;
+    }
+
+    /**
+     * If the list will be empty at this point, then this method will record making an ordered list.
+     * Otherwise, it will return the builder immediately
+     *
+     * @return the builder of type Integer
+     */
+    @Override
+    public ListBuilder<Integer> makeSorted() {
+        if (pendingSize == 0)
+            record(new Generate(makerMethodItems, DistributionSpec.of(DistributionType.SORTED), 0, true));
+        return this;
+    }
+
+    /**
+     * If the list will be empty at this point, then this method will record making a list in the shape of a
+     * distribution. Otherwise, it will return the builder immediately
+     *
+     * @param spec the distribution and its parameters
+     * @param seed the seed the integers are generated from
+     * @return the builder of type Integer
+     */
+    @Override
+    public ListBuilder<Integer> makeDistribution(DistributionSpec spec, long seed) {
+        if (pendingSize == 0)
+            record(new Generate(makerMethodItems, Objects.requireNonNull(spec), seed, true));
+        return this;
+    }
+
+    /**
+     * Records adding a collection of Integers; the collection is copied now, so later changes to it are not seen
+     *
+     * @param collection the items to add
+     * @return the builder of type Integer
+     */
+    @Override
+    public ListBuilder<Integer> add(Collection<Integer> collection) {
+        if (collection != null && !collection.isEmpty()) {
+            Append append = lastAppend();
+            int before = append.size();
+            try {
+                for (Integer item : collection) append.values.addInt(item);
+            } finally {
+                pendingSize += append.size() - before;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Records adding an Integer
+     *
+     * @param item the item to be added to the builder
+     * @return the builder of type Integer
+     */
+    @Override
+    public ListBuilder<Integer> add(Integer item) {
+        lastAppend().values.addInt(item);
+        pendingSize++;
+        return this;
+    }
+
+    /**
+     * Records shuffling the items in the builder
+     *
+     * @return the builder of type Integer
+     */
+    @Override
+    public ListBuilder<Integer> shuffle() {
+        // Only an unseeded shuffle already gives a fresh random order; the order after a seeded one is fixed
+        Step previous = steps.isEmpty() ? null : steps.get(steps.size() - 1);
+        boolean afterUnseededShuffle = previous instanceof Shuffle && ((Shuffle) previous).seed == null;
+        if (pendingSize > 1 && !afterUnseededShuffle)
+            record(new Shuffle(null));
+        return this;
+    }
+
+    /**
+     * Records shuffling the items in the builder, in the same order for the same seed. Seeded shuffles are
+     * never dropped, so the order can be reproduced
+     *
+     * @param seed the seed the order is drawn from
+     * @return the builder of type Integer
+     */
+    @Override
+    public ListBuilder<Integer> shuffle(long seed) {
+        if (pendingSize > 1)
+            record(new Shuffle(seed));
+        return this;
+    }
+
+    /**
+     * This method will run the recorded steps and print the elements of the list
+     *
+     * @return the builder of type Integer
+     */
+    @Override
+    public ListBuilder<Integer> print() {
+        BaseRankedListBuilder.print(build());
+        return this;
+    }
+
+    /**
+     * Runs the recorded steps and creates the complete list
+     *
+     * @return the list of Integers from the builder
+     */
+    @Override
+    public List<Integer> build() {
+        if (steps.isEmpty()) return items;
+
+        items.ensureCapacity(pendingSize);
+        int[] values = items.array();
+        int size = items.size();
+        boolean independent = false;
+
+        for (int s = 0; s < steps.size(); ++s) {
+            Step step = steps.get(s);
+
+            if (step instanceof Generate) {
+                Generate generate = (Generate) step;
+                boolean shuffleNext = s + 1 < steps.size() && steps.get(s + 1) instanceof Shuffle;
+
+                if (generate.spec != null && generate.spec.getType() == DistributionType.SORTED && shuffleNext
+                        && ((Shuffle) steps.get(s + 1)).seed == null) {
+                    shuffledSequence(values, size, generate.count, new SplittableRandom());
+                    s++;
+                } else {
+                    generate.run(values, size);
+                }
+                independent = generate.isIndependent();
+                size += generate.count;
+            } else if (step instanceof Append) {
+                IntArrayList appended = ((Append) step).values;
+                System.arraycopy(appended.array(), 0, values, size, appended.size());
+                independent = false;
+                size += appended.size();
+            } else {
+                Shuffle shuffle = (Shuffle) step;
+                if (shuffle.seed != null)
+                    ParallelShuffle.shuffle(values, 0, size, shuffle.seed);
+                else if (!independent)
+                    ParallelShuffle.shuffle(values, 0, size, new SplittableRandom().nextLong());
+            }
+        }
+
+        steps.clear();
+        items.setSize(size);
+        return items;
+    }
+
+    /**
+     * Clones the builder of type Integer, with its recorded steps
+     *
+     * @return a deep-copy of the builder of type Integer
+     */
+    @Override
+    public ListBuilder<Integer> deepClone() {
+        List<Step> stepsCopy = new ArrayList<>(steps.size());
+        for (Step step : steps) stepsCopy.add(step instanceof Append ? ((Append) step).copy() : step);
+        return new LazyIntegerListBuilder(new IntArrayList(items.toIntArray()), stepsCopy, makerMethodItems);
+    }
+
+    private void record(Step step) {
+        steps.add(step);
+        pendingSize += step.size();
+    }
+
+    /**
+     * Gets the append step at the end of the recorded steps, recording a new one if there is none,
+     * so runs of adds are copied in with a single array copy
+     */
+    private Append lastAppend() {
+        Step last = steps.isEmpty() ? null : steps.get(steps.size() - 1);
+        if (last instanceof Append) return (Append) last;
+
+        Append append = new Append();
+        steps.add(append);
+        return append;
+    }
+
+    /**
+     * Writes a random permutation of 1 to count in one pass ("inside-out" Fisher-Yates)
+     */
+    private static void shuffledSequence(int[] values, int offset, int count, SplittableRandom random) {
+        for (int i = 0; i < count; ++i) {
+            int j = random.nextInt(i + 1);
+            values[offset + i] = values[offset + j];
+            values[offset + j] = i + 1;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "size=" + items.size() +
+                ", pendingSteps=" + steps.size() +
+                ", pendingSize=" + pendingSize +
+                "}";
+    }
+
+    /**
+     * One recorded step of the builder
+     */
+    private interface Step {
+        /**
+         * Gets the number of items the step adds
+         */
+        int size();
+    }
+
+    /**
+     * Generates values: uniform 1 to 1000 for makeRandom, or a distribution
+     */
+    private static class Generate implements Step {
+        private final int count;
+        private final DistributionSpec spec;
+        private final long seed;
+        private final boolean seeded;
+
+        Generate(int count, DistributionSpec spec, long seed, boolean seeded) {
+            this.count = count;
+            this.spec = spec;
+            this.seed = seed;
+            this.seeded = seeded;
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+        void run(int[] target, int offset) {
+            IntegerDataGenerator generator = new IntegerDataGenerator(seed);
+            if (spec == null)
+                generator.uniform(target, offset, count, 1, 1001);
+            else
+                generator.generate(target, offset, count, spec);
+        }
+
+        /**
+         * Gets whether every value is drawn independently from the same distribution, from a seed nobody chose
+         */
+        boolean isIndependent() {
+            return !seeded && (spec == null || spec.getType() == DistributionType.UNIFORM
+                    || spec.getType() == DistributionType.FEW_UNIQUE || spec.getType() == DistributionType.ZIPF);
+        }
+    }
+
+    /**
+     * Appends added items, copied when they were added
+     */
+    private static class Append implements Step {
+        private final IntArrayList values;
+
+        Append() {
+            this(new IntArrayList());
+        }
+
+        private Append(IntArrayList values) {
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+
+        Append copy() {
+            return new Append(new IntArrayList(values.toIntArray()));
+        }
+    }
+
+    /**
+     * Shuffles every item before it, with a seed or at random
+     */
+    private static class Shuffle implements Step {
+        private final Long seed;
+
+        Shuffle(Long seed) {
+            this.seed = seed;
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+    }
+}
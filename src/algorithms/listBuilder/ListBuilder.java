@@ -20,6 +20,14 @@ public interface ListBuilder<T> extends ICloneable<ListBuilder<T>> {
      */
     ListBuilder<T> makeRandom();
 
+    /**
+     * This method will build a list that is not sorted, the same list for the same seed
+     *
+     * @param seed the seed the items are generated from
+     * @return the builder of the specified type
+     */
+    ListBuilder<T> makeRandom(long seed);
+
     /**
      * This method will build an ordered list
      *
@@ -27,6 +35,15 @@ public interface ListBuilder<T> extends ICloneable<ListBuilder<T>> {
      */
     ListBuilder<T> makeSorted();
 
+    /**
+     * This method will build a list in the shape of a distribution, the same list for the same seed
+     *
+     * @param spec the distribution and its parameters
+     * @param seed the seed the items are generated from
+     * @return the builder of the specified type
+     */
+    ListBuilder<T> makeDistribution(DistributionSpec spec, long seed);
+
     /**
      * @param collection the items to add
      * @return the builder of the specified type
@@ -48,6 +65,14 @@ public interface ListBuilder<T> extends ICloneable<ListBuilder<T>> {
      */
     ListBuilder<T> shuffle();
 
+    /**
+     * Shuffles the items in the builder, in the same order for the same seed
+     *
+     * @param seed the seed the order is drawn from
+     * @return the builder of the specified type
+     */
+    ListBuilder<T> shuffle(long seed);
+
     /**
      * This method will print the elements of an array
      *
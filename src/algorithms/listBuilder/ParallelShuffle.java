@@ -0,0 +1,168 @@
+package algorithms.listBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Seeded shuffles and random permutations, run in parallel for large inputs. Every element is first sent to a
+ * random bucket, chunk by chunk, and then every bucket is shuffled on its own with Fisher-Yates; since the bucket
+ * sizes follow the same multinomial distribution as in a full shuffle, every permutation remains equally likely.
+ * <p>
+ * Chunks, buckets and their random generators are all derived from the input size and the seed, never from the
+ * number of threads, so the same seed always gives the same order. A list shuffled with a seed ends up in the same
+ * order as an int array of the same size shuffled with that seed.
+ */
+public final class ParallelShuffle {
+    /**
+     * Smaller inputs are shuffled with a sequential Fisher-Yates
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 18;
+
+    /**
+     * Number of elements sent to buckets by one random generator
+     */
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    /**
+     * Target number of elements per bucket, so a bucket being shuffled fits in cache
+     */
+    private static final int BUCKET_SIZE = 1 << 15;
+
+    /**
+     * Bucket numbers are kept in a byte per element
+     */
+    private static final int MAX_BUCKETS = 256;
+
+    private ParallelShuffle() {
+    }
+
+    /**
+     * Shuffles an int array
+     *
+     * @param values the values to shuffle
+     * @param seed   the seed the order is drawn from
+     */
+    public static void shuffle(int[] values, long seed) {
+        shuffle(values, 0, values.length, seed);
+    }
+
+    /**
+     * Shuffles part of an int array
+     *
+     * @param values the array holding the values
+     * @param from   the first index to shuffle (inclusive)
+     * @param to     the last index to shuffle (exclusive)
+     * @param seed   the seed the order is drawn from
+     */
+    public static void shuffle(int[] values, int from, int to, long seed) {
+        if (from < 0 || to > values.length || from > to)
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + values.length);
+
+        int n = to - from;
+        if (n < PARALLEL_THRESHOLD) {
+            fisherYates(values, from, to, new SplittableRandom(seed));
+            return;
+        }
+
+        int buckets = Math.min(MAX_BUCKETS, Integer.highestOneBit(n / BUCKET_SIZE));
+        int chunks = (n + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        // Send every element to a random bucket, counting per chunk
+        byte[] bucketOf = new byte[n];
+        int[][] counts = new int[chunks][buckets];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            SplittableRandom random = new SplittableRandom(IntegerDataGenerator.mix(seed, c));
+            int[] count = counts[c];
+            for (int i = c * CHUNK_SIZE, end = Math.min(n, i + CHUNK_SIZE); i < end; ++i) {
+                int bucket = random.nextInt(buckets);
+                bucketOf[i] = (byte) bucket;
+                count[bucket]++;
+            }
+        });
+
+        // Lay the buckets out one after the other, each holding its chunks' elements in chunk order
+        int[] bucketStarts = new int[buckets + 1];
+        int[][] offsets = new int[chunks][buckets];
+        int position = 0;
+        for (int b = 0; b < buckets; ++b) {
+            bucketStarts[b] = position;
+            for (int c = 0; c < chunks; ++c) {
+                offsets[c][b] = position;
+                position += counts[c][b];
+            }
+        }
+        bucketStarts[buckets] = n;
+
+        int[] scattered = new int[n];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int[] next = offsets[c];
+            for (int i = c * CHUNK_SIZE, end = Math.min(n, i + CHUNK_SIZE); i < end; ++i)
+                scattered[next[bucketOf[i] & 0xFF]++] = values[from + i];
+        });
+
+        IntStream.range(0, buckets).parallel().forEach(b -> {
+            int start = bucketStarts[b], end = bucketStarts[b + 1];
+            fisherYates(scattered, start, end, new SplittableRandom(IntegerDataGenerator.mix(seed, chunks + b)));
+            System.arraycopy(scattered, start, values, from + start, end - start);
+        });
+    }
+
+    /**
+     * Generates a random permutation of <code>0</code> to <code>n - 1</code>
+     *
+     * @param n    the number of elements to permute
+     * @param seed the seed the permutation is drawn from
+     * @return the permutation
+     */
+    public static int[] permutation(int n, long seed) {
+        int[] permutation = new int[IntegerDataGenerator.checkCount(n)];
+        IntStream stream = IntStream.range(0, n);
+        (n >= PARALLEL_THRESHOLD ? stream.parallel() : stream).forEach(i -> permutation[i] = i);
+
+        shuffle(permutation, seed);
+        return permutation;
+    }
+
+    /**
+     * Shuffles a list, in the same order an int array of its size would be shuffled with the seed
+     *
+     * @param list the list to shuffle
+     * @param seed the seed the order is drawn from
+     * @param <T>  the type of elements in the list
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void shuffle(List<T> list, long seed) {
+        if (list.size() < 2) return;
+
+        int[] permutation = permutation(list.size(), seed);
+        Object[] elements = list.toArray();
+
+        // Only lists whose set() touches nothing but the element's own slot can be written to from several threads;
+        // a copy-on-write list may share its chunks, so it is handed the shuffled elements in one go instead
+        if ((list instanceof ArrayList || list instanceof IntArrayList) && list.size() >= PARALLEL_THRESHOLD) {
+            IntStream.range(0, elements.length).parallel().forEach(i -> list.set(i, (T) elements[permutation[i]]));
+        } else if (list instanceof CopyOnWriteChunkedList && list.size() >= PARALLEL_THRESHOLD) {
+            T[] shuffled = (T[]) new Object[elements.length];
+            IntStream.range(0, elements.length).parallel().forEach(i -> shuffled[i] = (T) elements[permutation[i]]);
+            ((CopyOnWriteChunkedList<T>) list).setAll(shuffled);
+        } else {
+            ListIterator<T> iterator = list.listIterator();
+            for (int index : permutation) {
+                iterator.next();
+                iterator.set((T) elements[index]);
+            }
+        }
+    }
+
+    private static void fisherYates(int[] values, int from, int to, SplittableRandom random) {
+        for (int i = to - 1; i > from; --i) {
+            int j = from + random.nextInt(i - from + 1);
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package algorithms.listBuilder;
+
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Implementation of the ListBuilder interface for DataRecords, for measuring sorts whose comparisons look at several
+ * keys. A rank is spread over the keys of the natural order: the range of ranks is cut into one slice per category,
+ * each slice into one slice per priority, and the timestamp grows with the rank. Comparisons therefore usually
+ * compare equal categories and priorities before the timestamp decides. The name is derived from the rank, so equal
+ * ranks give equal records.
+ *
+ * @see DataRecord
+ * @see BaseRankedListBuilder
+ */
+public class RecordListBuilder extends BaseRankedListBuilder<DataRecord> {
+    /**
+     * Default number of different categories
+     */
+    public static final int DEFAULT_CATEGORIES = 16;
+
+    /**
+     * Default number of different priorities within a category
+     */
+    public static final int DEFAULT_PRIORITIES = 8;
+
+    /**
+     * Timestamp of the smallest rank, in milliseconds since the epoch
+     */
+    private static final long BASE_TIMESTAMP = 1_500_000_000_000L;
+
+    private static final String[] NAME_SYLLABLES = {"ka", "lo", "mi", "nu", "re", "sa", "ti", "vo"};
+
+    private final int categories;
+    private final int priorities;
+
+    /**
+     * Default constructor for initializing internal collection of items
+     */
+    public RecordListBuilder() {
+        this(DEFAULT_MAKER_METHOD_ITEMS);
+    }
+
+    /**
+     * Constructor for initializing internal collection of items
+     *
+     * @param numberOfItemsForMakerMethods the number of items to add to the list when making a random or sorted list
+     */
+    public RecordListBuilder(int numberOfItemsForMakerMethods) {
+        this(numberOfItemsForMakerMethods, DEFAULT_CATEGORIES, DEFAULT_PRIORITIES);
+    }
+
+    /**
+     * Constructor for initializing internal collection of items and the number of values of the leading keys
+     *
+     * @param numberOfItemsForMakerMethods the number of items to add to the list when making a random or sorted list
+     * @param categories                   the number of different categories
+     * @param priorities                   the number of different priorities within a category
+     */
+    public RecordListBuilder(int numberOfItemsForMakerMethods, int categories, int priorities) {
+        this(new CopyOnWriteChunkedList<>(), numberOfItemsForMakerMethods, categories, priorities);
+
+        if (categories < 1)
+            throw new IllegalArgumentException("Categories must be at least 1, was " + categories);
+        if (priorities < 1)
+            throw new IllegalArgumentException("Priorities must be at least 1, was " + priorities);
+        if ((long) categories * priorities > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Too many category and priority pairs: " + categories + " * " + priorities);
+    }
+
+    private RecordListBuilder(List<DataRecord> list, int numberOfItemsForMakerMethods, int categories, int priorities) {
+        super(list, numberOfItemsForMakerMethods);
+        this.categories = categories;
+        this.priorities = priorities;
+    }
+
+    @Override
+    protected IntFunction<DataRecord> itemsForRanks(int minRank, int maxRank) {
+        long slots = (long) categories * priorities;
+        long ranks = (long) maxRank - minRank + 1;
+
+        // Zero-padded, so the category names sort like their numbers
+        int width = Integer.toString(categories - 1).length();
+        String[] categoryNames = new String[categories];
+        for (int c = 0; c < categories; ++c)
+            categoryNames[c] = String.format("category-%0" + width + "d", c);
+
+        return rank -> {
+            long offset = (long) rank - minRank;
+            long slot = offset * slots / ranks;
+            return new DataRecord(categoryNames[(int) (slot / priorities)], (int) (slot % priorities),
+                    BASE_TIMESTAMP + offset * 1000, nameOf(rank));
+        };
+    }
+
+    /**
+     * Clones the builder of type DataRecord. The items are shared copy-on-write, so the clone takes constant time
+     *
+     * @return a deep-copy of the builder of type DataRecord
+     */
+    @Override
+    public ListBuilder<DataRecord> deepClone() {
+        return new RecordListBuilder(copyItems(), makerMethodItems, categories, priorities);
+    }
+
+    /**
+     * Makes up a pronounceable name from the bits of a rank
+     */
+    private static String nameOf(int rank) {
+        StringBuilder name = new StringBuilder(16);
+        int bits = rank * 0x9E3779B9;
+        for (int i = 0; i < 6; ++i, bits >>>= 3) name.append(NAME_SYLLABLES[bits & 7]);
+        return name.append('-').append(rank).toString();
+    }
+}
@@ -0,0 +1,130 @@
+package algorithms.listBuilder;
+
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Implementation of the ListBuilder interface for Strings, for measuring sorts whose comparisons are expensive.
+ * Every generated String has the same length and is made of characters from one alphabet. It starts with a prefix
+ * shared by every item, so each comparison has to walk past it, then holds the item's rank in base
+ * <code>alphabet.length()</code>, and ends with characters derived from the rank, so equal ranks give equal Strings.
+ * <p>
+ * If the length left after the prefix is too short for every rank's digits, only the most significant ones are
+ * kept, and neighbouring ranks may give equal Strings.
+ *
+ * @see BaseRankedListBuilder
+ */
+public class StringListBuilder extends BaseRankedListBuilder<String> {
+    /**
+     * Default length of the generated Strings
+     */
+    public static final int DEFAULT_LENGTH = 16;
+
+    /**
+     * Default characters the generated Strings are made of
+     */
+    public static final String DEFAULT_ALPHABET = "abcdefghijklmnopqrstuvwxyz";
+
+    private final int length;
+    private final char[] alphabet;
+    private final int sharedPrefixLength;
+
+    /**
+     * Default constructor for initializing internal collection of items
+     */
+    public StringListBuilder() {
+        this(DEFAULT_MAKER_METHOD_ITEMS);
+    }
+
+    /**
+     * Constructor for initializing internal collection of items
+     *
+     * @param numberOfItemsForMakerMethods the number of items to add to the list when making a random or sorted list
+     */
+    public StringListBuilder(int numberOfItemsForMakerMethods) {
+        this(numberOfItemsForMakerMethods, DEFAULT_LENGTH, DEFAULT_ALPHABET, 0);
+    }
+
+    /**
+     * Constructor for initializing internal collection of items and the shape of the generated Strings
+     *
+     * @param numberOfItemsForMakerMethods the number of items to add to the list when making a random or sorted list
+     * @param length                       the length of every generated String
+     * @param alphabet                     the characters the generated Strings are made of, at least two different ones
+     * @param sharedPrefixLength           the number of leading characters every generated String has in common
+     */
+    public StringListBuilder(int numberOfItemsForMakerMethods, int length, String alphabet, int sharedPrefixLength) {
+        this(new CopyOnWriteChunkedList<>(), numberOfItemsForMakerMethods, length, sortedCharacters(alphabet), sharedPrefixLength);
+
+        if (length < 1)
+            throw new IllegalArgumentException("Length must be at least 1, was " + length);
+        if (sharedPrefixLength < 0 || sharedPrefixLength > length)
+            throw new IllegalArgumentException("Shared prefix length must be from 0 to " + length + ", was " + sharedPrefixLength);
+    }
+
+    private StringListBuilder(List<String> list, int numberOfItemsForMakerMethods, int length, char[] alphabet, int sharedPrefixLength) {
+        super(list, numberOfItemsForMakerMethods);
+        this.length = length;
+        this.alphabet = alphabet;
+        this.sharedPrefixLength = sharedPrefixLength;
+    }
+
+    @Override
+    protected IntFunction<String> itemsForRanks(int minRank, int maxRank) {
+        int base = alphabet.length;
+        int bodyLength = length - sharedPrefixLength;
+
+        // Enough digits for the largest rank, of which as many as fit are written
+        long span = (long) maxRank - minRank;
+        int digits = 1;
+        for (long limit = base; limit <= span; limit *= base) digits++;
+        int written = Math.min(digits, bodyLength);
+
+        long droppedDivisor = 1;
+        for (int d = written; d < digits; ++d) droppedDivisor *= base;
+        long divisor = droppedDivisor;
+
+        char[] prefix = new char[sharedPrefixLength];
+        for (int i = 0; i < prefix.length; ++i) prefix[i] = alphabet[(i * 7 + 3) % base];
+
+        return rank -> {
+            char[] chars = new char[length];
+            System.arraycopy(prefix, 0, chars, 0, prefix.length);
+
+            long digitsLeft = ((long) rank - minRank) / divisor;
+            for (int i = sharedPrefixLength + written - 1; i >= sharedPrefixLength; --i) {
+                chars[i] = alphabet[(int) (digitsLeft % base)];
+                digitsLeft /= base;
+            }
+
+            long tail = rank;
+            for (int i = sharedPrefixLength + written; i < length; ++i) {
+                tail = IntegerDataGenerator.mix(tail, i);
+                chars[i] = alphabet[(int) ((tail >>> 1) % base)];
+            }
+
+            return new String(chars);
+        };
+    }
+
+    /**
+     * Clones the builder of type String. The items are shared copy-on-write, so the clone takes constant time
+     *
+     * @return a deep-copy of the builder of type String
+     */
+    @Override
+    public ListBuilder<String> deepClone() {
+        return new StringListBuilder(copyItems(), makerMethodItems, length, alphabet, sharedPrefixLength);
+    }
+
+    /**
+     * Gets the distinct characters of an alphabet in ascending order, so digits compare like the ranks they hold
+     */
+    private static char[] sortedCharacters(String alphabet) {
+        char[] characters = alphabet.chars().distinct().sorted().collect(StringBuilder::new,
+                StringBuilder::appendCodePoint, StringBuilder::append).toString().toCharArray();
+        if (characters.length < 2)
+            throw new IllegalArgumentException("Alphabet must have at least two different characters, was \"" + alphabet + "\"");
+        return characters;
+    }
+}
@@ -1,7 +1,19 @@
 /**
  * This package provides the contract for defining and implementing the Builder pattern for Lists.
- * It also provides the concretions/implementations for a Integer List Builder.
+ * It also provides the concretions/implementations for a Integer List Builder, eager or lazy (recording the
+ * builder calls and running them fused at build time).
+ * StringListBuilder and RecordListBuilder build Strings and multi-key DataRecords, for sorts whose comparisons are
+ * expensive; they share BaseRankedListBuilder, which maps generated int ranks to items in order.
  * Other, more complex list builders can be implemented with the provided interface
+ *
+ * IntArrayList is a List of Integers backed by a primitive int array, for large lists and unboxed scans.
+ * CompressedSortedIntList keeps sorted ints delta-encoded and bit-packed in blocks, searchable in place.
+ * IntegerDataGenerator generates large data sets into int arrays in parallel, reproducibly from a seed, either
+ * uniform or in one of the shapes of DistributionType, described by a DistributionSpec. IntFileLoader loads text
+ * files of integers through a memory mapping, and BinaryDatasetWriter/BinaryDatasetReader store int or long data sets
+ * in a compact binary format which is mapped back without parsing. ParallelShuffle shuffles arrays and lists, and
+ * generates permutations, in parallel and reproducibly from a seed. CopyOnWriteChunkedList is a chunked list whose
+ * copies share their chunks until written to, so builders and sorting contexts clone in constant time
  * @see algorithms.listBuilder.ListBuilder
  */
 
@@ -0,0 +1,250 @@
+package algorithms.output;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * ResultSink writing to an NIO channel (a FileChannel, or <code>Channels.newChannel(System.out)</code>) through one
+ * direct buffer. In text mode every value is written in decimal, followed by a separator; numbers are encoded to ASCII
+ * two digits at a time, straight into the buffer, without creating strings. In binary mode ints and longs are written
+ * as 4 and 8 bytes in a chosen byte order.
+ * <p>
+ * Closing the sink flushes it and closes the channel; to leave a shared channel such as standard output open,
+ * flush the sink instead.
+ */
+public class ChannelResultSink implements ResultSink {
+    /**
+     * Size of the buffer between two writes to the channel
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Longest decimal form of a long, with its sign
+     */
+    private static final int MAX_DIGITS = 20;
+
+    private static final byte[] DIGIT_TENS = new byte[100];
+    private static final byte[] DIGIT_ONES = new byte[100];
+
+    static {
+        for (int i = 0; i < 100; ++i) {
+            DIGIT_TENS[i] = (byte) ('0' + i / 10);
+            DIGIT_ONES[i] = (byte) ('0' + i % 10);
+        }
+    }
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final boolean binary;
+    private final byte[] separator;
+    private final byte[] digits = new byte[MAX_DIGITS];
+
+    /**
+     * Constructor for a text sink writing one value per line
+     *
+     * @param channel the channel to write to
+     */
+    public ChannelResultSink(WritableByteChannel channel) {
+        this(channel, System.lineSeparator());
+    }
+
+    /**
+     * Constructor for a text sink
+     *
+     * @param channel   the channel to write to
+     * @param separator the text written after every value
+     */
+    public ChannelResultSink(WritableByteChannel channel, String separator) {
+        this(channel, false, separator.getBytes(StandardCharsets.UTF_8), ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Constructor for a binary sink
+     *
+     * @param channel   the channel to write to
+     * @param byteOrder the byte order ints and longs are written in
+     */
+    public ChannelResultSink(WritableByteChannel channel, ByteOrder byteOrder) {
+        this(channel, true, new byte[0], byteOrder);
+    }
+
+    private ChannelResultSink(WritableByteChannel channel, boolean binary, byte[] separator, ByteOrder byteOrder) {
+        if (separator.length > BUFFER_SIZE - MAX_DIGITS)
+            throw new IllegalArgumentException("Separator too long: " + separator.length + " bytes");
+
+        this.channel = Objects.requireNonNull(channel);
+        this.binary = binary;
+        this.separator = separator;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(byteOrder);
+    }
+
+    @Override
+    public void write(int value) throws IOException {
+        if (binary) {
+            reserve(Integer.BYTES);
+            buffer.putInt(value);
+        } else {
+            reserve(MAX_DIGITS + separator.length);
+            putDecimal(value);
+            buffer.put(separator);
+        }
+    }
+
+    @Override
+    public void write(long value) throws IOException {
+        if (binary) {
+            reserve(Long.BYTES);
+            buffer.putLong(value);
+        } else if (value == (int) value) {
+            write((int) value);
+        } else {
+            reserve(MAX_DIGITS + separator.length);
+            putDecimal(value);
+            buffer.put(separator);
+        }
+    }
+
+    /**
+     * Writes any value. Integers and Longs are written as such; other values are written as their string form,
+     * which binary sinks do not support
+     *
+     * @param value the value to write
+     * @throws IOException if the destination cannot be written to
+     * @throws IllegalArgumentException if the sink is binary and the value is neither an Integer nor a Long
+     */
+    @Override
+    public void write(Object value) throws IOException {
+        if (value instanceof Integer) {
+            write(((Integer) value).intValue());
+        } else if (value instanceof Long) {
+            write(((Long) value).longValue());
+        } else if (binary) {
+            throw new IllegalArgumentException("Binary sinks only write ints and longs, not " + value);
+        } else {
+            writeText(String.valueOf(value));
+            reserve(separator.length);
+            buffer.put(separator);
+        }
+    }
+
+    @Override
+    public void writeText(CharSequence text) throws IOException {
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        for (int offset = 0; offset < bytes.length; ) {
+            if (!buffer.hasRemaining()) drain();
+            int n = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, n);
+            offset += n;
+        }
+    }
+
+    @Override
+    public void writeAll(int[] values, int from, int to) throws IOException {
+        if (!binary) {
+            ResultSink.super.writeAll(values, from, to);
+            return;
+        }
+
+        // Copy whole runs of ints into the buffer at once
+        for (int i = from; i < to; ) {
+            reserve(Integer.BYTES);
+            int n = Math.min(to - i, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(values, i, n);
+            buffer.position(buffer.position() + n * Integer.BYTES);
+            i += n;
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the channel
+     *
+     * @throws IOException if the channel cannot be written to
+     */
+    @Override
+    public void flush() throws IOException {
+        drain();
+    }
+
+    /**
+     * Flushes the sink and closes the channel
+     *
+     * @throws IOException if the channel cannot be written to or closed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Makes room in the buffer for a number of bytes
+     */
+    private void reserve(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) drain();
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Encodes an int in decimal, two digits at a time from the right
+     */
+    private void putDecimal(int value) {
+        if (value == Integer.MIN_VALUE) {
+            putDecimal((long) value);
+            return;
+        }
+
+        int position = MAX_DIGITS;
+        int remaining = Math.abs(value);
+        while (remaining >= 100) {
+            int pair = remaining % 100;
+            remaining /= 100;
+            digits[--position] = DIGIT_ONES[pair];
+            digits[--position] = DIGIT_TENS[pair];
+        }
+        digits[--position] = DIGIT_ONES[remaining];
+        if (remaining >= 10) digits[--position] = DIGIT_TENS[remaining];
+        if (value < 0) digits[--position] = '-';
+
+        buffer.put(digits, position, MAX_DIGITS - position);
+    }
+
+    /**
+     * Encodes a long in decimal, working with negative remainders so Long.MIN_VALUE needs no special case
+     */
+    private void putDecimal(long value) {
+        int position = MAX_DIGITS;
+        long remaining = value < 0 ? value : -value;
+        while (remaining <= -100) {
+            int pair = (int) -(remaining % 100);
+            remaining /= 100;
+            digits[--position] = DIGIT_ONES[pair];
+            digits[--position] = DIGIT_TENS[pair];
+        }
+        int last = (int) -remaining;
+        digits[--position] = DIGIT_ONES[last];
+        if (last >= 10) digits[--position] = DIGIT_TENS[last];
+        if (value < 0) digits[--position] = '-';
+
+        buffer.put(digits, position, MAX_DIGITS - position);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "format=" + (binary ? "binary" : "text") +
+                ", byteOrder=" + buffer.order() +
+                "}";
+    }
+}
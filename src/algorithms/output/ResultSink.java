@@ -0,0 +1,68 @@
+package algorithms.output;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Destination for the results of sorting and searching, written value by value but delivered in large blocks.
+ * Values are buffered until the buffer is full or the sink is flushed, so emitting millions of values costs a few
+ * hundred writes rather than one per value.
+ *
+ * @see ChannelResultSink
+ */
+public interface ResultSink extends Closeable, Flushable {
+    /**
+     * Writes an int
+     *
+     * @param value the value to write
+     * @throws IOException if the destination cannot be written to
+     */
+    void write(int value) throws IOException;
+
+    /**
+     * Writes a long
+     *
+     * @param value the value to write
+     * @throws IOException if the destination cannot be written to
+     */
+    void write(long value) throws IOException;
+
+    /**
+     * Writes any value. Integers and Longs are written as such, other values as their string form
+     *
+     * @param value the value to write
+     * @throws IOException if the destination cannot be written to
+     */
+    void write(Object value) throws IOException;
+
+    /**
+     * Writes text as it is, with no separator, whatever the format of the sink; useful for headers and labels
+     *
+     * @param text the text to write
+     * @throws IOException if the destination cannot be written to
+     */
+    void writeText(CharSequence text) throws IOException;
+
+    /**
+     * Writes a range of an int array
+     *
+     * @param values the array holding the values
+     * @param from   the first index to write (inclusive)
+     * @param to     the last index to write (exclusive)
+     * @throws IOException if the destination cannot be written to
+     */
+    default void writeAll(int[] values, int from, int to) throws IOException {
+        for (int i = from; i < to; ++i) write(values[i]);
+    }
+
+    /**
+     * Writes every value of an iterable, in iteration order
+     *
+     * @param values the values to write
+     * @throws IOException if the destination cannot be written to
+     */
+    default void writeAll(Iterable<?> values) throws IOException {
+        for (Object value : values) write(value);
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * This package provides the contract for writing sorting and searching results out in large blocks, and an
+ * implementation writing text or binary values to NIO channels, such as files or standard output
+ * @see algorithms.output.ResultSink
+ */
+
+package algorithms.output;
\ No newline at end of file
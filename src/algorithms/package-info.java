@@ -6,5 +6,9 @@
  *
  * The sorting package provides the interface for defining what a Sorting Algorithm is, as well as providing
  * an abstract base class and 4 subsequent concrete implementations for sorting algorithms.
+ *
+ * The distributed package provides a sample sort which spreads one sort over several worker JVMs.
+ *
+ * The output package provides result sinks, which write sorted results to files or standard output in large blocks.
  */
 package algorithms;
\ No newline at end of file
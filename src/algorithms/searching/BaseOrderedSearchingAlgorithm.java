@@ -0,0 +1,99 @@
+package algorithms.searching;
+
+import algorithms.listBuilder.CompressedSortedIntList;
+
+import java.util.List;
+
+/**
+ * Base class defining a skeleton for an OrderedSearchingAlgorithm. Point lookups are answered
+ * from the lower bound, so sub-classes only have to implement the bound searches over a range of the list.
+ * Bounds over a whole CompressedSortedIntList use the list's own skip pointers whatever the sub-class
+ *
+ * @param <T> The type of objects the algorithm will search on.
+ * @see OrderedSearchingAlgorithm
+ */
+public abstract class BaseOrderedSearchingAlgorithm<T extends Comparable<T>> implements OrderedSearchingAlgorithm<T> {
+    /**
+     * Finds the lower bound of a value within <code>[from, to)</code> of a sorted list
+     *
+     * @param list  the sorted list to search
+     * @param value the value to search for
+     * @param from  the first index to search (inclusive)
+     * @param to    the last index to search (exclusive)
+     * @return the first position in the range whose element is not less than the value, or <code>to</code>
+     */
+    protected abstract int lowerBound(List<T> list, T value, int from, int to);
+
+    /**
+     * Finds the upper bound of a value within <code>[from, to)</code> of a sorted list
+     *
+     * @param list  the sorted list to search
+     * @param value the value to search for
+     * @param from  the first index to search (inclusive)
+     * @param to    the last index to search (exclusive)
+     * @return the first position in the range whose element is greater than the value, or <code>to</code>
+     */
+    protected abstract int upperBound(List<T> list, T value, int from, int to);
+
+    /**
+     * Searches a sorted list for a value
+     *
+     * @param list  the sorted list to search
+     * @param value the value to search for
+     * @return true if found in the collection and false if not
+     */
+    @Override
+    public boolean search(List<T> list, T value) {
+        return indexOf(list, value) >= 0;
+    }
+
+    /**
+     * Finds the first occurrence of a value in a sorted list
+     *
+     * @param list  the sorted list to search
+     * @param value the value to search for
+     * @return the index of the first occurrence, or <code>-(insertion point) - 1</code> if the value is absent
+     */
+    @Override
+    public int indexOf(List<T> list, T value) {
+        int index = lowerBound(list, value);
+        return index < list.size() && list.get(index).compareTo(value) == 0 ? index : -index - 1;
+    }
+
+    /**
+     * Finds the lower bound of a value in a sorted list. A CompressedSortedIntList is searched with its own skip
+     * pointers, which decode a single block, instead of the sub-class's search, whose every <code>get</code> may
+     * decode one
+     *
+     * @param list  the sorted list to search
+     * @param value the value to search for
+     * @return the first position whose element is not less than the value, or <code>list.size()</code>
+     */
+    @Override
+    public int lowerBound(List<T> list, T value) {
+        if (list instanceof CompressedSortedIntList && value instanceof Integer)
+            return ((CompressedSortedIntList) list).lowerBound((Integer) value);
+
+        return lowerBound(list, value, 0, list.size());
+    }
+
+    /**
+     * Finds the upper bound of a value in a sorted list, with the skip pointers of a CompressedSortedIntList
+     *
+     * @param list  the sorted list to search
+     * @param value the value to search for
+     * @return the first position whose element is greater than the value, or <code>list.size()</code>
+     */
+    @Override
+    public int upperBound(List<T> list, T value) {
+        if (list instanceof CompressedSortedIntList && value instanceof Integer)
+            return ((CompressedSortedIntList) list).upperBound((Integer) value);
+
+        return upperBound(list, value, 0, list.size());
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" + '}';
+    }
+}
@@ -10,43 +10,60 @@ package algorithms.searching;
 import java.util.List;
 
 /**
- * Linear Search algorithm.
+ * Binary Search algorithm.
  *
- * @param <T> Object type for linear search
+ * @param <T> Object type for binary search
  */
-public class BinarySearch<T extends Comparable<T>> implements SearchingAlgorithm<T> {
+public class BinarySearch<T extends Comparable<T>> extends BaseOrderedSearchingAlgorithm<T> {
     /**
-     * This method will search an element in a sorted list.
+     * Finds the first element in the range which is not less than the value.
      *
-     * @param list  List contains objects
+     * @param list  List contains objects, in ascending order
      * @param value Target is the element that needs to be searched for in the list.
-     * @return true if found in the collection and false if not
+     * @param from  the first index to search (inclusive)
+     * @param to    the last index to search (exclusive)
+     * @return the lower bound of the value in the range
      */
     @Override
-    public boolean search(List<T> list, T value) {
-        boolean found = false;
-        int left = 0, right = list.size() - 1;
-
-        while (left <= right) {
-            int middle = left + (right - 1) / 2;
-            int comp = list.get(middle).compareTo(value);
-
-            //if int comp == -1 then list[middle] < value
-            //if int comp ==  0 then list[middle] == value
-            //if int comp ==  1 then list[middle] > value
-            if (comp == 0) {
-                System.out.println("\nValue found at index " + middle + "\n");
-                found = true;
-                break;
-            } else if (comp > 0)
-                right = middle - 1;
-            else
+    protected int lowerBound(List<T> list, T value, int from, int to) {
+        int left = from, right = to;
+
+        while (left < right) {
+            int middle = (left + right) >>> 1;
+
+            //if list[middle] < value the bound is right of middle
+            if (list.get(middle).compareTo(value) < 0)
                 left = middle + 1;
+            else
+                right = middle;
         }
 
-        if (!found)
-            System.out.println("Value not found.");
+        return left;
+    }
+
+    /**
+     * Finds the first element in the range which is greater than the value.
+     *
+     * @param list  List contains objects, in ascending order
+     * @param value Target is the element that needs to be searched for in the list.
+     * @param from  the first index to search (inclusive)
+     * @param to    the last index to search (exclusive)
+     * @return the upper bound of the value in the range
+     */
+    @Override
+    protected int upperBound(List<T> list, T value, int from, int to) {
+        int left = from, right = to;
+
+        while (left < right) {
+            int middle = (left + right) >>> 1;
+
+            //if list[middle] <= value the bound is right of middle
+            if (list.get(middle).compareTo(value) <= 0)
+                left = middle + 1;
+            else
+                right = middle;
+        }
 
-        return found;
+        return left;
     }
 }
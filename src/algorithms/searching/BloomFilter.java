@@ -0,0 +1,191 @@
+package algorithms.searching;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Blocked Bloom filter: a compact, probabilistic set which answers "definitely absent" or "possibly present".
+ * Every element sets a few bits inside a single 512-bit block (one cache line), so a query reads one cache line
+ * whatever the number of hash functions. Elements are hashed through <code>hashCode</code>, so the filter never
+ * reports an added element as absent, and reports an element which was not added as present with about the
+ * configured false-positive rate.
+ * <p>
+ * Elements cannot be removed; a filter over a changed list has to be rebuilt.
+ *
+ * @param <T> the type of elements in the filter
+ * @see BloomFilteredSearch
+ */
+public class BloomFilter<T> {
+    /**
+     * Bits per block, one cache line
+     */
+    private static final int BLOCK_BITS = 512;
+    private static final int WORDS_PER_BLOCK = BLOCK_BITS / Long.SIZE;
+    private static final int MAX_HASHES = 16;
+
+    /**
+     * Confining the bits of an element to one block makes some blocks fuller than others, which raises the
+     * false-positive rate, the more so the lower the target; the filter is made larger than a classic one by
+     * this much per halving of the target rate to make up for it
+     */
+    private static final double BLOCKING_OVERHEAD = 0.04;
+
+    private final long[] words;
+    private final int blockCount;
+    private final int hashCount;
+    private final double falsePositiveRate;
+    private int elementCount;
+
+    /**
+     * Constructor for an empty filter sized for a number of elements
+     *
+     * @param expectedElements  the number of elements which will be added
+     * @param falsePositiveRate the target rate of false positives once they have been added, between 0 and 1
+     */
+    public BloomFilter(int expectedElements, double falsePositiveRate) {
+        if (expectedElements < 0)
+            throw new IllegalArgumentException("Expected elements must not be negative, was " + expectedElements);
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1, was " + falsePositiveRate);
+
+        double ln2 = Math.log(2);
+        double halvings = -Math.log(falsePositiveRate) / ln2;
+        double bits = Math.max(1, expectedElements) * halvings / ln2 * (1 + BLOCKING_OVERHEAD * halvings);
+        long blocks = Math.max(1, (long) Math.ceil(bits / BLOCK_BITS));
+        if (blocks > Integer.MAX_VALUE / WORDS_PER_BLOCK)
+            throw new IllegalArgumentException("Filter too large for " + expectedElements + " elements at rate " + falsePositiveRate);
+
+        this.blockCount = (int) blocks;
+        this.words = new long[blockCount * WORDS_PER_BLOCK];
+        this.hashCount = (int) Math.max(1, Math.min(MAX_HASHES, Math.round(halvings)));
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Builds a filter holding every element of a collection
+     *
+     * @param elements          the elements to add
+     * @param falsePositiveRate the target rate of false positives, between 0 and 1
+     * @param <T>               the type of elements in the filter
+     * @return the filter
+     */
+    public static <T> BloomFilter<T> of(Collection<? extends T> elements, double falsePositiveRate) {
+        BloomFilter<T> filter = new BloomFilter<>(elements.size(), falsePositiveRate);
+        for (T element : elements) filter.add(element);
+        return filter;
+    }
+
+    /**
+     * Adds an element to the filter
+     *
+     * @param element the element to add, may be null
+     */
+    public void add(T element) {
+        long hash = hash(element);
+        int base = blockOf(hash) * WORDS_PER_BLOCK;
+
+        int h = (int) hash, step = stepOf(hash);
+        for (int i = 0; i < hashCount; ++i, h += step)
+            words[base + ((h >>> 6) & (WORDS_PER_BLOCK - 1))] |= 1L << h;
+
+        elementCount++;
+    }
+
+    /**
+     * Gets whether an element may have been added
+     *
+     * @param element the element to test, may be null
+     * @return false if the element was definitely never added, true if it possibly was
+     */
+    public boolean mightContain(T element) {
+        long hash = hash(element);
+        int base = blockOf(hash) * WORDS_PER_BLOCK;
+
+        int h = (int) hash, step = stepOf(hash);
+        for (int i = 0; i < hashCount; ++i, h += step)
+            if ((words[base + ((h >>> 6) & (WORDS_PER_BLOCK - 1))] & (1L << h)) == 0) return false;
+
+        return true;
+    }
+
+    /**
+     * Gets the number of elements added so far
+     *
+     * @return the number of elements
+     */
+    public int getElementCount() {
+        return elementCount;
+    }
+
+    /**
+     * Gets the number of bits set by every element
+     *
+     * @return the number of hash functions
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Gets the false-positive rate the filter was sized for
+     *
+     * @return the target false-positive rate
+     */
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    /**
+     * Gets the memory used by the bits of the filter
+     *
+     * @return the size of the filter in bytes
+     */
+    public long getMemoryBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    /**
+     * Gets the number of bits the filter uses per added element
+     *
+     * @return the bits per element, or the total number of bits if the filter is empty
+     */
+    public double getBitsPerElement() {
+        return (double) words.length * Long.SIZE / Math.max(1, elementCount);
+    }
+
+    /**
+     * Picks the block from the high bits of the hash, so it is independent of the bits used inside the block
+     */
+    private int blockOf(long hash) {
+        return (int) (((hash >>> 32) * blockCount) >>> 32);
+    }
+
+    /**
+     * Gets the distance between the bits of an element inside its block, odd so the bits don't repeat
+     */
+    private static int stepOf(long hash) {
+        return (int) ((hash * 0x9E3779B97F4A7C15L) >>> 32) | 1;
+    }
+
+    /**
+     * Spreads the element's hash code over 64 bits (the finalizer of MurmurHash3)
+     */
+    private static long hash(Object element) {
+        long h = Objects.hashCode(element) * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "elementCount=" + elementCount +
+                ", hashCount=" + hashCount +
+                ", falsePositiveRate=" + falsePositiveRate +
+                ", memoryBytes=" + getMemoryBytes() +
+                "}";
+    }
+}
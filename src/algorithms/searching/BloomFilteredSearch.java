@@ -0,0 +1,147 @@
+package algorithms.searching;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Decorator which puts a Bloom filter in front of another searching algorithm. The filter is built over the list on
+ * the first lookup, and a lookup it rules out returns straight away without running the wrapped algorithm, so misses
+ * cost a few nanoseconds instead of a scan or a descent. Hits, and the few false positives, go on to the wrapped
+ * algorithm.
+ * <p>
+ * A miss answered by the filter is reported by <code>indexOf</code> as -1, without running the wrapped algorithm, even
+ * when an OrderedSearchingAlgorithm would report <code>-(insertion point) - 1</code>. Callers needing insertion points
+ * can ask the wrapped algorithm's <code>lowerBound</code>, or turn on <code>reportInsertionPoints</code>, which finds
+ * them with a full lower-bound search on every filtered miss and so gives up the filter's speed-up for
+ * <code>indexOf</code>.
+ * <p>
+ * The filter is only kept for lists whose changes can be detected: a TrackedList, rebuilt after any change made
+ * through it, or a CompressedSortedIntList. Lookups on any other list go straight to the wrapped algorithm, since an
+ * element overwritten in place would be reported absent by a filter kept for it. Elements are hashed with
+ * <code>hashCode</code>, which must agree with <code>compareTo</code>: elements comparing equal must have equal hash
+ * codes. Instances are not thread-safe.
+ *
+ * @param <T> Object type for the filtered search
+ * @see BloomFilter
+ */
+public class BloomFilteredSearch<T extends Comparable<T>> implements SearchingAlgorithm<T> {
+    /**
+     * Default target rate of lookups for absent elements which get past the filter
+     */
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+    private final SearchingAlgorithm<T> searchingAlgorithm;
+    private final double falsePositiveRate;
+    private final boolean reportInsertionPoints;
+
+    private final ListChangeTracker tracker = new ListChangeTracker();
+    private BloomFilter<T> filter;
+
+    /**
+     * Constructor for wrapping a searching algorithm with the default false-positive rate
+     *
+     * @param searchingAlgorithm the algorithm running the lookups the filter lets through
+     */
+    public BloomFilteredSearch(SearchingAlgorithm<T> searchingAlgorithm) {
+        this(searchingAlgorithm, DEFAULT_FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Constructor for wrapping a searching algorithm, reporting filtered misses as -1
+     *
+     * @param searchingAlgorithm the algorithm running the lookups the filter lets through
+     * @param falsePositiveRate  the target rate of absent elements which get past the filter, between 0 and 1
+     */
+    public BloomFilteredSearch(SearchingAlgorithm<T> searchingAlgorithm, double falsePositiveRate) {
+        this(searchingAlgorithm, falsePositiveRate, false);
+    }
+
+    /**
+     * Constructor for wrapping a searching algorithm, choosing how filtered misses are reported
+     *
+     * @param searchingAlgorithm    the algorithm running the lookups the filter lets through
+     * @param falsePositiveRate     the target rate of absent elements which get past the filter, between 0 and 1
+     * @param reportInsertionPoints true to report a filtered miss on an ordered algorithm as
+     *                              <code>-(insertion point) - 1</code>, at the cost of a lower-bound search
+     */
+    public BloomFilteredSearch(SearchingAlgorithm<T> searchingAlgorithm, double falsePositiveRate,
+                               boolean reportInsertionPoints) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1, was " + falsePositiveRate);
+
+        this.searchingAlgorithm = Objects.requireNonNull(searchingAlgorithm);
+        this.falsePositiveRate = falsePositiveRate;
+        this.reportInsertionPoints = reportInsertionPoints;
+    }
+
+    /**
+     * This method will search an element in a list, asking the filter first.
+     *
+     * @param list  List contains objects
+     * @param value Target is the element that needs to be searched for in the list.
+     * @return true if found in the collection and false if not
+     */
+    @Override
+    public boolean search(List<T> list, T value) {
+        if (!ListChangeTracker.isTrackable(list))
+            return searchingAlgorithm.search(list, value);
+
+        return filterFor(list).mightContain(value) && searchingAlgorithm.search(list, value);
+    }
+
+    /**
+     * This method will find the index of an element in a list, asking the filter first.
+     *
+     * @param list  List contains objects
+     * @param value Target is the element that needs to be searched for in the list.
+     * @return the result of the wrapped algorithm, or -1 if the filter rules the value out (with
+     * <code>reportInsertionPoints</code> on an ordered algorithm, <code>-(insertion point) - 1</code>)
+     */
+    @Override
+    public int indexOf(List<T> list, T value) {
+        if (!ListChangeTracker.isTrackable(list) || filterFor(list).mightContain(value))
+            return searchingAlgorithm.indexOf(list, value);
+
+        if (reportInsertionPoints && searchingAlgorithm instanceof OrderedSearchingAlgorithm)
+            return -((OrderedSearchingAlgorithm<T>) searchingAlgorithm).lowerBound(list, value) - 1;
+
+        return -1;
+    }
+
+    /**
+     * Gets the filter for the list, building it if there is none or the list has changed. A filter for a list whose
+     * changes cannot be detected is built anew on every call, and not kept
+     *
+     * @param list the list the filter is over
+     * @return the filter, for example to report its memory footprint
+     */
+    public BloomFilter<T> filterFor(List<T> list) {
+        if (!ListChangeTracker.isTrackable(list))
+            return BloomFilter.of(list, falsePositiveRate);
+
+        if (filter == null || !tracker.isCurrent(list)) {
+            filter = BloomFilter.of(list, falsePositiveRate);
+            tracker.record(list);
+        }
+
+        return filter;
+    }
+
+    /**
+     * Drops the current filter, so the next lookup rebuilds it
+     */
+    public void invalidate() {
+        filter = null;
+        tracker.reset();
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "searchingAlgorithm=" + searchingAlgorithm +
+                ", falsePositiveRate=" + falsePositiveRate +
+                ", reportInsertionPoints=" + reportInsertionPoints +
+                ", filter=" + filter +
+                "}";
+    }
+}
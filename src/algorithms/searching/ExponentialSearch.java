@@ -0,0 +1,58 @@
+package algorithms.searching;
+
+import java.util.List;
+
+/**
+ * Exponential Search algorithm. Probes the sorted list at doubling distances from the start until it passes
+ * the value, then binary searches the last gap. A value at position <code>k</code> is found in <code>O(log k)</code>
+ * comparisons, which beats binary search when matches tend to sit near the front of the list.
+ *
+ * @param <T> Object type for exponential search
+ */
+public class ExponentialSearch<T extends Comparable<T>> extends BaseOrderedSearchingAlgorithm<T> {
+    @Override
+    protected int lowerBound(List<T> list, T value, int from, int to) {
+        return exponentialBound(list, value, from, to, false);
+    }
+
+    @Override
+    protected int upperBound(List<T> list, T value, int from, int to) {
+        return exponentialBound(list, value, from, to, true);
+    }
+
+    /**
+     * Finds the lower or upper bound of the value by galloping from the start of the range
+     *
+     * @param list  the sorted list to search
+     * @param value the value to search for
+     * @param from  the first index to search (inclusive)
+     * @param to    the last index to search (exclusive)
+     * @param upper false for the first element not less than the value, true for the first element greater than it
+     * @return the bound within the range
+     */
+    private int exponentialBound(List<T> list, T value, int from, int to, boolean upper) {
+        int left = from, probe = from, step = 1;
+
+        while (probe < to && isBefore(list.get(probe), value, upper)) {
+            left = probe + 1;
+            probe = left + step;
+            step <<= 1;
+        }
+
+        int right = Math.min(probe, to);
+        while (left < right) {
+            int middle = (left + right) >>> 1;
+            if (isBefore(list.get(middle), value, upper))
+                left = middle + 1;
+            else
+                right = middle;
+        }
+
+        return left;
+    }
+
+    private boolean isBefore(T element, T value, boolean upper) {
+        int compareResult = element.compareTo(value);
+        return upper ? compareResult <= 0 : compareResult < 0;
+    }
+}
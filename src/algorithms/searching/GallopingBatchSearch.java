@@ -0,0 +1,114 @@
+package algorithms.searching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Answers a batch of lookups against a sorted list in one forward sweep. The keys are visited in ascending
+ * order and every lookup gallops forward from the previous hit, so <code>m</code> keys against <code>n</code>
+ * elements cost <code>O(m log(n / m))</code> comparisons with mostly sequential memory access.
+ *
+ * @param <T> The type of objects to search on.
+ * @see OrderedSearchingAlgorithm#indexOfAll(List, List, boolean)
+ */
+final class GallopingBatchSearch<T extends Comparable<T>> {
+    /**
+     * Minimum number of keys per parallel sweep
+     */
+    private static final int PARALLEL_GRAIN = 1 << 12;
+
+    /**
+     * Looks up every key in the sorted list
+     *
+     * @param list     the list to search, in ascending order
+     * @param keys     the keys to look up, in any order (already ascending keys are not re-sorted)
+     * @param parallel whether to split the sweep over the common fork-join pool
+     * @return for every key, in the order given, its first index in the list or <code>-(insertion point) - 1</code>
+     */
+    int[] indexOfAll(List<T> list, List<T> keys, boolean parallel) {
+        List<T> items = list instanceof RandomAccess ? list : new ArrayList<>(list);
+        List<T> sortedKeys = keys instanceof RandomAccess ? keys : new ArrayList<>(keys);
+        int m = sortedKeys.size();
+        int[] result = new int[m];
+        int[] order = ascendingOrder(sortedKeys);
+
+        int chunks = parallel ? Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, m / PARALLEL_GRAIN) : 1;
+        if (chunks <= 1) {
+            sweep(items, sortedKeys, order, 0, m, result);
+        } else {
+            IntStream.range(0, chunks).parallel().forEach(c ->
+                    sweep(items, sortedKeys, order, (int) ((long) m * c / chunks), (int) ((long) m * (c + 1) / chunks), result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Finds the lower bound of a key at or after a starting position, probing at doubling distances
+     * from the start before binary searching the last gap
+     *
+     * @param list the sorted list to search
+     * @param key  the key to search for
+     * @param from the position to start from; every element before it must be less than the key
+     * @param to   the end of the range to search (exclusive)
+     * @return the first position in <code>[from, to)</code> whose element is not less than the key, or <code>to</code>
+     */
+    int gallop(List<T> list, T key, int from, int to) {
+        int lo = from, probe = from, step = 1;
+
+        while (probe < to && list.get(probe).compareTo(key) < 0) {
+            lo = probe + 1;
+            probe = lo + step;
+            step <<= 1;
+        }
+
+        int hi = Math.min(probe, to);
+        while (lo < hi) {
+            int middle = (lo + hi) >>> 1;
+            if (list.get(middle).compareTo(key) < 0)
+                lo = middle + 1;
+            else
+                hi = middle;
+        }
+
+        return lo;
+    }
+
+    /**
+     * Sweeps through the keys <code>order[from]</code> to <code>order[to - 1]</code>, which are in ascending order
+     */
+    private void sweep(List<T> list, List<T> keys, int[] order, int from, int to, int[] result) {
+        int n = list.size(), position = 0;
+
+        for (int k = from; k < to; ++k) {
+            T key = keys.get(order[k]);
+            position = gallop(list, key, position, n);
+            result[order[k]] = position < n && list.get(position).compareTo(key) == 0 ? position : -position - 1;
+        }
+    }
+
+    /**
+     * Gets the indices of the keys in ascending key order, skipping the sort if the keys are already ascending
+     */
+    private int[] ascendingOrder(List<T> keys) {
+        int m = keys.size();
+        boolean ascending = true;
+        for (int i = 1; i < m && ascending; ++i)
+            ascending = keys.get(i - 1).compareTo(keys.get(i)) <= 0;
+
+        if (ascending)
+            return IntStream.range(0, m).toArray();
+
+        Integer[] boxed = new Integer[m];
+        for (int i = 0; i < m; ++i) boxed[i] = i;
+        Arrays.sort(boxed, (a, b) -> keys.get(a).compareTo(keys.get(b)));
+
+        int[] order = new int[m];
+        for (int i = 0; i < m; ++i) order[i] = boxed[i];
+        return order;
+    }
+}
@@ -0,0 +1,84 @@
+package algorithms.searching;
+
+import java.util.List;
+
+/**
+ * Open-addressing hash index from the elements of a list to the index of their first occurrence. Built once in
+ * <code>O(n)</code>, it answers point lookups in expected <code>O(1)</code>, without the list having to be sorted.
+ * Elements are matched with <code>equals</code>/<code>hashCode</code>.
+ *
+ * @param <T> the type of elements to index
+ * @see IntHashIndex
+ * @see HashIndexedSearch
+ */
+public class HashIndex<T> {
+    private final Object[] keys;
+    private final int[] positions;
+    private final int mask;
+    private final int size;
+
+    /**
+     * Constructor for building the index over a list
+     *
+     * @param list the list to index; null elements are not indexed
+     */
+    public HashIndex(List<T> list) {
+        int capacity = IntHashIndex.tableCapacity(list.size());
+        keys = new Object[capacity];
+        positions = new int[capacity];
+        mask = capacity - 1;
+
+        int i = 0, entries = 0;
+        for (T element : list) {
+            if (element != null) {
+                int slot = IntHashIndex.mix(element.hashCode()) & mask;
+                while (keys[slot] != null && !keys[slot].equals(element)) slot = (slot + 1) & mask;
+
+                // Keep the first occurrence of duplicates
+                if (keys[slot] == null) {
+                    keys[slot] = element;
+                    positions[slot] = i;
+                    entries++;
+                }
+            }
+            i++;
+        }
+
+        size = entries;
+    }
+
+    /**
+     * Gets the index of the first occurrence of an element
+     *
+     * @param element the element to look up
+     * @return the index of its first occurrence in the indexed list, or -1 if it is not in the list
+     */
+    public int indexOf(T element) {
+        if (element == null) return -1;
+
+        int slot = IntHashIndex.mix(element.hashCode()) & mask;
+        while (keys[slot] != null) {
+            if (keys[slot].equals(element)) return positions[slot];
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Gets the number of distinct elements in the index
+     *
+     * @return the number of distinct elements
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "size=" + size +
+                ", capacity=" + keys.length +
+                "}";
+    }
+}
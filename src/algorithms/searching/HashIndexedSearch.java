@@ -0,0 +1,91 @@
+package algorithms.searching;
+
+import java.util.List;
+
+/**
+ * Searching algorithm for repeated lookups on the same unsorted list. The first lookup builds an index over the
+ * list, and later lookups on the same list reuse it, so each costs expected <code>O(1)</code> instead of a full scan.
+ * Lists of Integers get an IntHashIndex over unboxed keys, any other list a HashIndex.
+ * <p>
+ * The index is only kept for lists whose changes can be detected: a TrackedList, rebuilt after any change made
+ * through it, or a CompressedSortedIntList. Wrap a plain list (an ArrayList, an IntArrayList) in a TrackedList to
+ * get the index; lookups on an unwrapped plain list are answered by a scan, since an element overwritten in place
+ * would make any index kept for it wrong. Elements are matched with <code>equals</code>, which should be consistent
+ * with <code>compareTo</code>. Instances are not thread-safe.
+ *
+ * @param <T> Object type for hash indexed search
+ * @see HashIndex
+ * @see IntHashIndex
+ */
+public class HashIndexedSearch<T extends Comparable<T>> implements SearchingAlgorithm<T> {
+    private final ListChangeTracker tracker = new ListChangeTracker();
+    private HashIndex<T> index;
+    private IntHashIndex intIndex;
+
+    /**
+     * This method will search an element in a list, which does not need to be sorted.
+     *
+     * @param list  List contains objects
+     * @param value Target is the element that needs to be searched for in the list.
+     * @return true if found in the collection and false if not
+     */
+    @Override
+    public boolean search(List<T> list, T value) {
+        return indexOf(list, value) >= 0;
+    }
+
+    /**
+     * This method will find the first index of an element, building or rebuilding the index if needed.
+     *
+     * @param list  List contains objects
+     * @param value Target is the element that needs to be searched for in the list.
+     * @return the index of the first occurrence of the value, -1 otherwise
+     */
+    @Override
+    public int indexOf(List<T> list, T value) {
+        if (!ListChangeTracker.isTrackable(list))
+            return list.indexOf(value);
+
+        if (!tracker.isCurrent(list))
+            build(list);
+
+        if (intIndex != null)
+            return value instanceof Integer ? intIndex.indexOf((Integer) value) : -1;
+
+        return index.indexOf(value);
+    }
+
+    /**
+     * Drops the current index, so the next lookup rebuilds it
+     */
+    public void invalidate() {
+        tracker.reset();
+        index = null;
+        intIndex = null;
+    }
+
+    /**
+     * Builds the index for the list, over unboxed keys if every element is an Integer
+     */
+    @SuppressWarnings("unchecked")
+    private void build(List<T> list) {
+        boolean integers = true;
+        for (T element : list) {
+            if (!(element instanceof Integer)) {
+                integers = false;
+                break;
+            }
+        }
+
+        index = integers ? null : new HashIndex<>(list);
+        intIndex = integers ? new IntHashIndex((List<Integer>) list) : null;
+        tracker.record(list);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "index=" + (intIndex != null ? intIndex : index) +
+                "}";
+    }
+}
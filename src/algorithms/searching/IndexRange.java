@@ -0,0 +1,81 @@
+package algorithms.searching;
+
+import java.util.Objects;
+
+/**
+ * Immutable half-open range of list indices, <code>[from, to)</code>
+ *
+ * @see OrderedSearchingAlgorithm#equalRange(java.util.List, Comparable)
+ */
+public final class IndexRange {
+    private final int from;
+    private final int to;
+
+    /**
+     * Constructor for a range of indices
+     *
+     * @param from the first index of the range (inclusive)
+     * @param to   the last index of the range (exclusive)
+     */
+    public IndexRange(int from, int to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Gets the first index of the range
+     *
+     * @return the first index (inclusive)
+     */
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Gets the end of the range
+     *
+     * @return the last index (exclusive)
+     */
+    public int getTo() {
+        return to;
+    }
+
+    /**
+     * Gets the number of indices in the range
+     *
+     * @return the size of the range
+     */
+    public int size() {
+        return to - from;
+    }
+
+    /**
+     * Gets whether the range holds no indices
+     *
+     * @return true if the range is empty
+     */
+    public boolean isEmpty() {
+        return to <= from;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IndexRange that = (IndexRange) o;
+        return from == that.from && to == that.to;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "from=" + from +
+                ", to=" + to +
+                "}";
+    }
+}
@@ -0,0 +1,147 @@
+package algorithms.searching;
+
+import java.util.List;
+
+/**
+ * Open-addressing hash index from int keys to the index of their first occurrence, kept in two primitive arrays
+ * (no boxing, no entry objects). Built once in <code>O(n)</code>, it answers point lookups in expected <code>O(1)</code>
+ * with linear probing over a table which is at most half full.
+ *
+ * @see HashIndex
+ */
+public class IntHashIndex {
+    /**
+     * Largest table size; at most half of it is used
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final int[] keys;
+    private final int[] positions;
+    private final int mask;
+    private int size;
+
+    /**
+     * Constructor for building the index over an array of keys
+     *
+     * @param values the keys to index, in any order
+     */
+    public IntHashIndex(int[] values) {
+        this(values.length);
+
+        int entries = 0;
+        for (int i = 0; i < values.length; ++i)
+            if (insert(values[i], i)) entries++;
+
+        size = entries;
+    }
+
+    /**
+     * Constructor for building the index over a list of keys
+     *
+     * @param values the keys to index, in any order; null elements are not indexed
+     */
+    public IntHashIndex(List<Integer> values) {
+        this(values.size());
+
+        int i = 0, entries = 0;
+        for (Integer value : values) {
+            if (value != null && insert(value, i)) entries++;
+            i++;
+        }
+
+        size = entries;
+    }
+
+    private IntHashIndex(int expectedKeys) {
+        int capacity = tableCapacity(expectedKeys);
+        keys = new int[capacity];
+        positions = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Gets the index of the first occurrence of a key
+     *
+     * @param key the key to look up
+     * @return the index of its first occurrence in the indexed keys, or -1 if it is not there
+     */
+    public int indexOf(int key) {
+        int slot = mix(key) & mask;
+
+        // Positions are stored plus one, so an empty slot holds 0
+        while (positions[slot] != 0) {
+            if (keys[slot] == key) return positions[slot] - 1;
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Gets whether the key was indexed
+     *
+     * @param key the key to look up
+     * @return true if the key is in the index
+     */
+    public boolean contains(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Gets the number of distinct keys in the index
+     *
+     * @return the number of distinct keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Inserts a key unless it is already present, so the first occurrence wins
+     *
+     * @return true if the key was new
+     */
+    private boolean insert(int key, int position) {
+        int slot = mix(key) & mask;
+        while (positions[slot] != 0) {
+            if (keys[slot] == key) return false;
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        positions[slot] = position + 1;
+        return true;
+    }
+
+    /**
+     * Gets a power-of-two table size which keeps the load factor at or below one half
+     *
+     * @param expectedKeys the number of keys to be inserted
+     * @return the table size
+     */
+    static int tableCapacity(int expectedKeys) {
+        if (expectedKeys > MAX_CAPACITY / 2)
+            throw new IllegalArgumentException("Too many keys for a hash index: " + expectedKeys);
+
+        return Integer.highestOneBit(Math.max(2, expectedKeys * 2 - 1)) << 1;
+    }
+
+    /**
+     * Spreads the bits of a hash code, so keys with regular patterns (sequential ids, multiples) don't cluster
+     *
+     * @param hash the hash code to mix
+     * @return the mixed hash code
+     */
+    static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "size=" + size +
+                ", capacity=" + keys.length +
+                "}";
+    }
+}
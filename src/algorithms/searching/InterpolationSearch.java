@@ -0,0 +1,88 @@
+package algorithms.searching;
+
+import java.util.List;
+
+/**
+ * Interpolation Search algorithm for sorted numeric lists. Instead of probing the middle of the range, it estimates
+ * where the value should be from the values at both ends of the range. On close to uniformly distributed keys
+ * (timestamps, sequential ids) this needs an expected <code>O(log log n)</code> probes.
+ * <p>
+ * Whenever an interpolation probe fails to halve the range, as happens on skewed data, the next probe bisects
+ * the range instead, so the range at least halves every two steps. Each step compares the value with both ends of
+ * the range and the probe, so the worst case is <code>O(log n)</code>, at most about six times the comparisons
+ * of a binary search.
+ *
+ * @param <T> Numeric object type for interpolation search
+ */
+public class InterpolationSearch<T extends Number & Comparable<T>> extends BaseOrderedSearchingAlgorithm<T> {
+    /**
+     * Ranges this small are finished with a plain binary search
+     */
+    private static final int BINARY_SEARCH_THRESHOLD = 8;
+
+    @Override
+    protected int lowerBound(List<T> list, T value, int from, int to) {
+        return interpolationBound(list, value, from, to, false);
+    }
+
+    @Override
+    protected int upperBound(List<T> list, T value, int from, int to) {
+        return interpolationBound(list, value, from, to, true);
+    }
+
+    /**
+     * Finds the lower or upper bound of the value, narrowing the range with interpolation probes
+     *
+     * @param list  the sorted list to search
+     * @param value the value to search for
+     * @param from  the first index to search (inclusive)
+     * @param to    the last index to search (exclusive)
+     * @param upper false for the first element not less than the value, true for the first element greater than it
+     * @return the bound within the range
+     */
+    private int interpolationBound(List<T> list, T value, int from, int to, boolean upper) {
+        int left = from, right = to;
+        double target = value.doubleValue();
+        boolean bisectNext = false;
+
+        // Invariant: every element before 'left' is before the value, no element from 'right' on is
+        while (right - left > BINARY_SEARCH_THRESHOLD) {
+            T low = list.get(left), high = list.get(right - 1);
+            if (!isBefore(low, value, upper)) return left;
+            if (isBefore(high, value, upper)) return right;
+
+            int probe;
+            double lowValue = low.doubleValue(), highValue = high.doubleValue();
+            if (bisectNext || !(highValue > lowValue)) {
+                probe = (left + right) >>> 1;
+            } else {
+                double fraction = (target - lowValue) / (highValue - lowValue);
+                probe = left + (int) (fraction * (right - 1 - left));
+                probe = Math.max(left + 1, Math.min(right - 2, probe));
+            }
+
+            int size = right - left;
+            if (isBefore(list.get(probe), value, upper))
+                left = probe + 1;
+            else
+                right = probe;
+
+            bisectNext = !bisectNext && right - left > size / 2;
+        }
+
+        while (left < right) {
+            int middle = (left + right) >>> 1;
+            if (isBefore(list.get(middle), value, upper))
+                left = middle + 1;
+            else
+                right = middle;
+        }
+
+        return left;
+    }
+
+    private boolean isBefore(T element, T value, boolean upper) {
+        int compareResult = element.compareTo(value);
+        return upper ? compareResult <= 0 : compareResult < 0;
+    }
+}
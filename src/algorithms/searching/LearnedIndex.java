@@ -0,0 +1,237 @@
+package algorithms.searching;
+
+import algorithms.sorting.SortingContext;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Learned index over sorted int keys. Training fits a piecewise-linear model, mapping a key to its position,
+ * in one linear pass (greedy "shrinking cone"): each segment is extended for as long as one line can predict the
+ * first position of every key in it within <code>maxError</code>. A lookup finds the segment by binary search over
+ * the segment start keys, predicts the position, and finishes with a binary search of the small window around it.
+ * <p>
+ * The model only holds three numbers per segment, far less than the inner nodes of a B-tree, and the keys
+ * themselves are passed in with every search, as with any other searching algorithm. If the window turns out to miss
+ * the answer (for example after the keys were modified), the search gallops outward from it, so results are always
+ * correct and only the speed depends on how well the model fits.
+ */
+public class LearnedIndex extends BaseOrderedSearchingAlgorithm<Integer> {
+    /**
+     * Default maximum distance between a predicted and an actual position
+     */
+    public static final int DEFAULT_MAX_ERROR = 32;
+
+    private final int maxError;
+    private final int size;
+    private final int[] segmentKeys;
+    private final int[] segmentPositions;
+    private final double[] segmentSlopes;
+
+    /**
+     * Constructor for training the index on the items of a sorting context, sorting the context first if needed.
+     * The context must order its items ascending
+     *
+     * @param context the context holding the keys
+     */
+    public LearnedIndex(SortingContext<Integer> context) {
+        this(sortedKeys(context), DEFAULT_MAX_ERROR);
+    }
+
+    /**
+     * Constructor for training the index on keys in ascending order
+     *
+     * @param sortedKeys the keys, in ascending order; the array is not kept
+     * @param maxError   the maximum distance between a predicted and an actual position
+     */
+    public LearnedIndex(int[] sortedKeys, int maxError) {
+        if (maxError < 1)
+            throw new IllegalArgumentException("Max error must be at least 1, was " + maxError);
+
+        this.maxError = maxError;
+        this.size = sortedKeys.length;
+
+        int[] keys = new int[Math.max(1, size)];
+        int[] positions = new int[keys.length];
+        double[] slopes = new double[keys.length];
+        int segments = 0;
+
+        int i = 0;
+        while (i < size) {
+            // Start a segment at the first occurrence of a key, then widen it while a slope fits every key
+            int startKey = sortedKeys[i], startPosition = i;
+            double lowSlope = 0, highSlope = Double.POSITIVE_INFINITY;
+
+            for (++i; i < size; ++i) {
+                if (sortedKeys[i] == sortedKeys[i - 1]) continue;
+                if (sortedKeys[i] < sortedKeys[i - 1])
+                    throw new IllegalArgumentException("Keys must be in ascending order, key " + i + " is out of order");
+
+                double dx = (double) sortedKeys[i] - startKey;
+                double low = Math.max(lowSlope, (i - maxError - startPosition) / dx);
+                double high = Math.min(highSlope, (i + maxError - startPosition) / dx);
+                if (low > high) break;
+
+                lowSlope = low;
+                highSlope = high;
+            }
+
+            keys[segments] = startKey;
+            positions[segments] = startPosition;
+            slopes[segments] = highSlope == Double.POSITIVE_INFINITY ? lowSlope : (lowSlope + highSlope) / 2;
+            segments++;
+        }
+
+        this.segmentKeys = Arrays.copyOf(keys, segments);
+        this.segmentPositions = Arrays.copyOf(positions, segments);
+        this.segmentSlopes = Arrays.copyOf(slopes, segments);
+    }
+
+    /**
+     * Gets the number of linear segments the model was trained into
+     *
+     * @return the number of segments
+     */
+    public int getSegmentCount() {
+        return segmentKeys.length;
+    }
+
+    /**
+     * Gets the approximate memory used by the model, excluding the keys themselves
+     *
+     * @return the size of the model in bytes
+     */
+    public long getModelBytes() {
+        return (long) segmentKeys.length * (Integer.BYTES + Integer.BYTES + Double.BYTES);
+    }
+
+    /**
+     * Finds the first position whose key is not less than the value, in a sorted array of keys
+     *
+     * @param keys  the keys the index was trained on
+     * @param value the value to search for
+     * @return the lower bound, from 0 to keys.length
+     */
+    public int lowerBound(int[] keys, int value) {
+        return locate(i -> keys[i], value, 0, keys.length, false);
+    }
+
+    /**
+     * Finds the first position whose key is greater than the value, in a sorted array of keys
+     *
+     * @param keys  the keys the index was trained on
+     * @param value the value to search for
+     * @return the upper bound, from 0 to keys.length
+     */
+    public int upperBound(int[] keys, int value) {
+        return locate(i -> keys[i], value, 0, keys.length, true);
+    }
+
+    /**
+     * Finds the first position of a value in a sorted array of keys
+     *
+     * @param keys  the keys the index was trained on
+     * @param value the value to search for
+     * @return the position of the first occurrence, or <code>-(insertion point) - 1</code> if absent
+     */
+    public int indexOf(int[] keys, int value) {
+        int index = lowerBound(keys, value);
+        return index < keys.length && keys[index] == value ? index : -index - 1;
+    }
+
+    @Override
+    protected int lowerBound(List<Integer> list, Integer value, int from, int to) {
+        return locate(list::get, value, from, to, false);
+    }
+
+    @Override
+    protected int upperBound(List<Integer> list, Integer value, int from, int to) {
+        return locate(list::get, value, from, to, true);
+    }
+
+    /**
+     * Finds the lower or upper bound of a value: predicts its position, binary searches the window around the
+     * prediction, and gallops outward if the answer lies outside the window
+     *
+     * @param key   accessor for the key at a position
+     * @param value the value to search for
+     * @param from  the first position to search (inclusive)
+     * @param to    the last position to search (exclusive)
+     * @param upper false for the first key not less than the value, true for the first key greater than it
+     * @return the bound within the range
+     */
+    private int locate(IntUnaryOperator key, int value, int from, int to, boolean upper) {
+        if (from >= to) return from;
+
+        int predicted = predict(value);
+        int left = Math.max(from, Math.min(to, predicted - maxError));
+        int right = Math.max(left, Math.min(to, predicted + maxError + 1));
+
+        // Widen the window at either end until it is known to contain the bound
+        for (int step = 1; left > from && !isBefore(key.applyAsInt(left - 1), value, upper); step <<= 1) {
+            right = left;
+            left = Math.max(from, left - step);
+        }
+        for (int step = 1; right < to && isBefore(key.applyAsInt(right), value, upper); step <<= 1) {
+            left = right + 1;
+            right = Math.min(to, right + step);
+        }
+
+        while (left < right) {
+            int middle = (left + right) >>> 1;
+            if (isBefore(key.applyAsInt(middle), value, upper))
+                left = middle + 1;
+            else
+                right = middle;
+        }
+
+        return left;
+    }
+
+    /**
+     * Predicts the position of the first occurrence of a value with the segment covering it
+     */
+    private int predict(int value) {
+        if (segmentKeys.length == 0) return 0;
+
+        int lo = 0, hi = segmentKeys.length;
+        while (lo < hi) {
+            int middle = (lo + hi) >>> 1;
+            if (segmentKeys[middle] <= value)
+                lo = middle + 1;
+            else
+                hi = middle;
+        }
+
+        int segment = Math.max(0, lo - 1);
+        double position = segmentPositions[segment] + segmentSlopes[segment] * ((double) value - segmentKeys[segment]);
+        return (int) Math.max(0, Math.min(size, position));
+    }
+
+    private boolean isBefore(int key, int value, boolean upper) {
+        return upper ? key <= value : key < value;
+    }
+
+    /**
+     * Sorts the context and copies its items out as ints
+     */
+    private static int[] sortedKeys(SortingContext<Integer> context) {
+        context.sort();
+        List<Integer> items = context.getItems();
+
+        int[] sortedKeys = new int[items.size()];
+        int i = 0;
+        for (Integer item : items) sortedKeys[i++] = item;
+        return sortedKeys;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "size=" + size +
+                ", segments=" + segmentKeys.length +
+                ", maxError=" + maxError +
+                "}";
+    }
+}
@@ -14,7 +14,7 @@ import java.util.List;
 public class LinearSearch<T extends Comparable<T>> implements SearchingAlgorithm<T> {
 
     /**
-     * This method will search an element in a sorted list.
+     * This method will search an element in a list, which does not need to be sorted.
      *
      * @param list  List contains objects
      * @param value Target is the element that needs to be searched for in the list.
@@ -22,19 +22,28 @@ public class LinearSearch<T extends Comparable<T>> implements SearchingAlgorithm
      */
     @Override
     public boolean search(List<T> list, T value) {
-        boolean found = false;
+        return indexOf(list, value) >= 0;
+    }
 
+    /**
+     * This method will find the first index of an element in a list, which does not need to be sorted.
+     *
+     * @param list  List contains objects
+     * @param value Target is the element that needs to be searched for in the list.
+     * @return the index of the first occurrence of the value, -1 otherwise
+     */
+    @Override
+    public int indexOf(List<T> list, T value) {
         for (int i = 0; i < list.size(); i++) {
-            if (list.get(i).compareTo(value) == 0) {
-                System.out.println("\nValue " + value + " found at index " + i);
-                found = true;
-                break;
-            }
+            if (list.get(i).compareTo(value) == 0)
+                return i;
         }
 
-        if (!found)
-            System.out.println("\nValue " + value + " not found.");
+        return -1;
+    }
 
-        return found;
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" + '}';
     }
 }
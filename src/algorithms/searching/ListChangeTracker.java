@@ -0,0 +1,60 @@
+package algorithms.searching;
+
+import algorithms.listBuilder.CompressedSortedIntList;
+import algorithms.sorting.TrackedList;
+
+import java.util.List;
+
+/**
+ * Remembers the state of the list a lookup structure (an index, a filter) was built from, to tell when it has to be
+ * built again. Only lists whose every change can be seen are tracked: a TrackedList, through its modification count,
+ * and a CompressedSortedIntList, which never changes. Overwriting an element of any other list, such as an ArrayList,
+ * leaves no trace, so nothing built from such a list may be kept from one lookup to the next.
+ */
+final class ListChangeTracker {
+    private List<?> list;
+    private int size;
+    private long modifications;
+
+    /**
+     * Gets whether every change to a list can be detected, so a structure built from it can be kept
+     *
+     * @param list the list to check
+     * @return true for a TrackedList or a CompressedSortedIntList
+     */
+    static boolean isTrackable(List<?> list) {
+        return list instanceof TrackedList || list instanceof CompressedSortedIntList;
+    }
+
+    /**
+     * Gets whether the list is the one last recorded and has not changed since
+     *
+     * @param list the list to check
+     * @return true if a structure built at the last record is still valid for the list
+     */
+    boolean isCurrent(List<?> list) {
+        return list == this.list && list.size() == size && modificationsOf(list) == modifications;
+    }
+
+    /**
+     * Records the current state of a trackable list
+     *
+     * @param list the list a structure was just built from
+     */
+    void record(List<?> list) {
+        this.list = list;
+        this.size = list.size();
+        this.modifications = modificationsOf(list);
+    }
+
+    /**
+     * Forgets the recorded list, so no list is current until the next record
+     */
+    void reset() {
+        list = null;
+    }
+
+    private static long modificationsOf(List<?> list) {
+        return list instanceof TrackedList ? ((TrackedList<?>) list).getModificationCount() : 0;
+    }
+}
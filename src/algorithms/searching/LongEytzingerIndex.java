@@ -0,0 +1,180 @@
+package algorithms.searching;
+
+import algorithms.sorting.SortingContext;
+
+import java.util.List;
+
+/**
+ * Static search index over sorted long keys, laid out in Eytzinger (breadth-first) order: the root of the implicit
+ * binary search tree is stored first, then both children, then the four grandchildren, and so on. Every descent
+ * reads the top levels from the same few cache lines, and each probe's children sit next to each other, so large
+ * read-mostly arrays take far fewer cache misses than a binary search over the sorted array.
+ * <p>
+ * The descent is branch-free (the comparison result is added into the next position) so the JIT can compile it
+ * to conditional moves. Positions returned are indices into the sorted order of the keys.
+ *
+ * @see IntEytzingerIndex
+ */
+public class LongEytzingerIndex {
+    /**
+     * Tree positions double on every level, so the index is limited to what keeps <code>2 * k + 1</code> an int
+     */
+    private static final int MAX_SIZE = 1 << 30;
+
+    private final long[] keys;
+    private final int[] ranks;
+    private final int size;
+
+    /**
+     * Constructor for building the index from a sorting context. The context is sorted first if needed,
+     * and must order its items ascending
+     *
+     * @param context the context holding the keys
+     */
+    public LongEytzingerIndex(SortingContext<Long> context) {
+        this(sortedKeys(context));
+    }
+
+    /**
+     * Constructor for building the index from keys in ascending order
+     *
+     * @param sortedKeys the keys, in ascending order; the array is not kept
+     */
+    public LongEytzingerIndex(long[] sortedKeys) {
+        if (sortedKeys.length >= MAX_SIZE)
+            throw new IllegalArgumentException("Too many keys for an index: " + sortedKeys.length);
+
+        for (int i = 1; i < sortedKeys.length; ++i)
+            if (sortedKeys[i - 1] > sortedKeys[i])
+                throw new IllegalArgumentException("Keys must be in ascending order, key " + i + " is out of order");
+
+        size = sortedKeys.length;
+        keys = new long[size + 1];
+        ranks = new int[size + 1];
+        layout(sortedKeys, 0, 1);
+    }
+
+    /**
+     * Gets the number of keys in the index
+     *
+     * @return the number of keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the sorted position of the first key not less than the value
+     *
+     * @param value the value to search for
+     * @return the lower bound, from 0 to size()
+     */
+    public int lowerBound(long value) {
+        int k = 1;
+        while (k <= size) k = 2 * k + (keys[k] < value ? 1 : 0);
+        return rankOf(k);
+    }
+
+    /**
+     * Finds the sorted position of the first key greater than the value
+     *
+     * @param value the value to search for
+     * @return the upper bound, from 0 to size()
+     */
+    public int upperBound(long value) {
+        int k = 1;
+        while (k <= size) k = 2 * k + (keys[k] <= value ? 1 : 0);
+        return rankOf(k);
+    }
+
+    /**
+     * Finds the sorted position of the first occurrence of the value
+     *
+     * @param value the value to search for
+     * @return the position of the first occurrence, or <code>-(insertion point) - 1</code> if absent
+     */
+    public int indexOf(long value) {
+        int k = 1;
+        while (k <= size) k = 2 * k + (keys[k] < value ? 1 : 0);
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k != 0 && keys[k] == value ? ranks[k] : -(k == 0 ? size : ranks[k]) - 1;
+    }
+
+    /**
+     * Gets whether the value is one of the keys
+     *
+     * @param value the value to search for
+     * @return true if the value is in the index
+     */
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Finds the range of sorted positions holding the value
+     *
+     * @param value the value to search for
+     * @return the range from the lower bound to the upper bound
+     */
+    public IndexRange equalRange(long value) {
+        return new IndexRange(lowerBound(value), upperBound(value));
+    }
+
+    /**
+     * Counts the keys between two values, both ends included
+     *
+     * @param low  the smallest value to count
+     * @param high the largest value to count
+     * @return the number of keys <code>k</code> with <code>low &lt;= k &lt;= high</code>
+     */
+    public int countInRange(long low, long high) {
+        return low > high ? 0 : upperBound(high) - lowerBound(low);
+    }
+
+    /**
+     * Maps the position a descent ended at back to the sorted position of the last node where it went left.
+     * The trailing ones of <code>k</code> are the right turns taken after that node
+     */
+    private int rankOf(int k) {
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k == 0 ? size : ranks[k];
+    }
+
+    /**
+     * Fills the Eytzinger layout with an in-order walk of the implicit tree
+     *
+     * @param sortedKeys the keys in ascending order
+     * @param next       the next sorted key to place
+     * @param k          the tree position to fill
+     * @return the next sorted key to place after this subtree
+     */
+    private int layout(long[] sortedKeys, int next, int k) {
+        if (k <= size) {
+            next = layout(sortedKeys, next, 2 * k);
+            keys[k] = sortedKeys[next];
+            ranks[k] = next++;
+            next = layout(sortedKeys, next, 2 * k + 1);
+        }
+        return next;
+    }
+
+    /**
+     * Sorts the context and copies its items out as longs
+     */
+    private static long[] sortedKeys(SortingContext<Long> context) {
+        context.sort();
+        List<Long> items = context.getItems();
+
+        long[] sortedKeys = new long[items.size()];
+        int i = 0;
+        for (Long item : items) sortedKeys[i++] = item;
+        return sortedKeys;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "size=" + size +
+                "}";
+    }
+}
@@ -0,0 +1,79 @@
+package algorithms.searching;
+
+import java.util.List;
+
+/**
+ * Interface for searching algorithms which work on lists sorted in natural (ascending) order.
+ * On top of point lookups they answer bound and range queries, all correct in the presence of duplicates.
+ *
+ * @param <T> The type of objects the algorithm will search on.
+ * @see SearchingAlgorithm
+ */
+public interface OrderedSearchingAlgorithm<T extends Comparable<T>> extends SearchingAlgorithm<T> {
+    /**
+     * Finds the first position whose element is not less than the value
+     *
+     * @param list  the sorted list to search
+     * @param value the value to search for
+     * @return the lower bound, from 0 to list.size()
+     */
+    int lowerBound(List<T> list, T value);
+
+    /**
+     * Finds the first position whose element is greater than the value
+     *
+     * @param list  the sorted list to search
+     * @param value the value to search for
+     * @return the upper bound, from 0 to list.size()
+     */
+    int upperBound(List<T> list, T value);
+
+    /**
+     * Finds the range of positions holding elements equal to the value
+     *
+     * @param list  the sorted list to search
+     * @param value the value to search for
+     * @return the range from the lower bound to the upper bound, empty if the value is absent
+     */
+    default IndexRange equalRange(List<T> list, T value) {
+        return new IndexRange(lowerBound(list, value), upperBound(list, value));
+    }
+
+    /**
+     * Counts the elements between two values, both ends included
+     *
+     * @param list the sorted list to search
+     * @param low  the smallest value to count
+     * @param high the largest value to count
+     * @return the number of elements <code>e</code> with <code>low &lt;= e &lt;= high</code>
+     */
+    default int countInRange(List<T> list, T low, T high) {
+        if (low.compareTo(high) > 0) return 0;
+        return upperBound(list, high) - lowerBound(list, low);
+    }
+
+    /**
+     * Finds the index of every key in one forward sweep over the list, galloping from each hit to the next
+     *
+     * @param list the sorted list to search
+     * @param keys the keys to look up, in any order
+     * @return for every key, in the order given, its first index or <code>-(insertion point) - 1</code>
+     */
+    @Override
+    default int[] indexOfAll(List<T> list, List<T> keys) {
+        return indexOfAll(list, keys, false);
+    }
+
+    /**
+     * Finds the index of every key in one forward sweep over the list, galloping from each hit to the next.
+     * The keys are sorted first unless they are already in ascending order
+     *
+     * @param list     the sorted list to search
+     * @param keys     the keys to look up, in any order
+     * @param parallel whether to split the keys into partitions which are swept in parallel
+     * @return for every key, in the order given, its first index or <code>-(insertion point) - 1</code>
+     */
+    default int[] indexOfAll(List<T> list, List<T> keys, boolean parallel) {
+        return new GallopingBatchSearch<T>().indexOfAll(list, keys, parallel);
+    }
+}
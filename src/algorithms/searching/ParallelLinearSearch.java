@@ -0,0 +1,186 @@
+package algorithms.searching;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ParallelLinearSearch class looks up an element in a large unsorted list by scanning chunks of it on a
+ * fork-join pool. The chunks share the best match found so far, and every worker checks it as it scans, so all of
+ * them stop soon after a match makes the rest of their work pointless.
+ * <p>
+ * In {@link Mode#FIND_FIRST} mode the lowest matching index is returned, as with LinearSearch; workers only stop
+ * once a match was found before their chunk. In {@link Mode#FIND_ANY} mode the first match found by any worker
+ * is returned and every worker stops right away. Lists which are small or not random access are scanned on the
+ * calling thread.
+ *
+ * @param <T> Object type for parallel linear search
+ * @see LinearSearch
+ */
+public class ParallelLinearSearch<T extends Comparable<T>> implements SearchingAlgorithm<T> {
+    /**
+     * Which match a search returns when the value occurs more than once
+     */
+    public enum Mode {
+        /**
+         * The lowest index holding the value
+         */
+        FIND_FIRST,
+        /**
+         * Whichever index holding the value is found first
+         */
+        FIND_ANY
+    }
+
+    /**
+     * Lists smaller than this are not worth splitting
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    /**
+     * Number of elements scanned between two checks for a match found elsewhere
+     */
+    private static final int CHECK_INTERVAL = 1 << 10;
+
+    private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+    private final Mode mode;
+    private final ForkJoinPool pool;
+
+    /**
+     * Default constructor, finding the first match on the common pool
+     */
+    public ParallelLinearSearch() {
+        this(Mode.FIND_FIRST);
+    }
+
+    /**
+     * Constructor for searching on the common pool
+     *
+     * @param mode which match to return
+     */
+    public ParallelLinearSearch(Mode mode) {
+        this(mode, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for searching on a given pool
+     *
+     * @param mode which match to return
+     * @param pool the pool to run the chunks on
+     */
+    public ParallelLinearSearch(Mode mode, ForkJoinPool pool) {
+        this.mode = Objects.requireNonNull(mode);
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * This method will search an element in a list, which does not need to be sorted.
+     * Any match will do, so workers stop as soon as one is found whatever the mode.
+     *
+     * @param list  List contains objects
+     * @param value Target is the element that needs to be searched for in the list.
+     * @return true if found in the collection and false if not
+     */
+    @Override
+    public boolean search(List<T> list, T value) {
+        return find(list, value, Mode.FIND_ANY) >= 0;
+    }
+
+    /**
+     * This method will find an index of an element in a list, which does not need to be sorted.
+     *
+     * @param list  List contains objects
+     * @param value Target is the element that needs to be searched for in the list.
+     * @return the first index (or, in FIND_ANY mode, any index) of the value, -1 otherwise
+     */
+    @Override
+    public int indexOf(List<T> list, T value) {
+        return find(list, value, mode);
+    }
+
+    private int find(List<T> list, T value, Mode mode) {
+        if (list.size() < SEQUENTIAL_THRESHOLD || !(list instanceof RandomAccess) || pool.getParallelism() == 1) {
+            int i = 0;
+            for (T element : list) {
+                if (element.compareTo(value) == 0) return i;
+                i++;
+            }
+            return -1;
+        }
+
+        AtomicInteger found = new AtomicInteger(NOT_FOUND);
+        int grain = Math.max(SEQUENTIAL_THRESHOLD, list.size() / (pool.getParallelism() * 4));
+        pool.invoke(new ScanTask<>(list, value, mode, found, grain, 0, list.size()));
+
+        return found.get() == NOT_FOUND ? -1 : found.get();
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "mode=" + mode +
+                ", parallelism=" + pool.getParallelism() +
+                "}";
+    }
+
+    /**
+     * Scans one range of the list, splitting it in halves until it is no larger than the grain
+     */
+    private static class ScanTask<T extends Comparable<T>> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> list;
+        private final T value;
+        private final Mode mode;
+        private final AtomicInteger found;
+        private final int grain;
+        private final int from;
+        private final int to;
+
+        ScanTask(List<T> list, T value, Mode mode, AtomicInteger found, int grain, int from, int to) {
+            this.list = list;
+            this.value = value;
+            this.mode = mode;
+            this.found = found;
+            this.grain = grain;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (isCancelled(from)) return;
+
+            if (to - from > grain) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ScanTask<>(list, value, mode, found, grain, from, middle),
+                        new ScanTask<>(list, value, mode, found, grain, middle, to));
+                return;
+            }
+
+            for (int start = from; start < to; start += CHECK_INTERVAL) {
+                if (isCancelled(start)) return;
+
+                int end = Math.min(to, start + CHECK_INTERVAL);
+                for (int i = start; i < end; ++i) {
+                    if (list.get(i).compareTo(value) == 0) {
+                        found.accumulateAndGet(i, Math::min);
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Gets whether a match found elsewhere makes scanning from a position pointless
+         */
+        private boolean isCancelled(int position) {
+            int best = found.get();
+            return mode == Mode.FIND_ANY ? best != NOT_FOUND : best < position;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package algorithms.searching;
+
+import algorithms.listBuilder.IntArrayList;
+
+import java.util.List;
+
+/**
+ * PrimitiveLinearSearch class looks up an Integer in a list, which does not need to be sorted. When the list is an
+ * IntArrayList, the scan runs over its backing int array with PrimitiveScan, with no boxing and no
+ * <code>compareTo</code> calls; any other list is scanned element by element, as LinearSearch does.
+ *
+ * @see PrimitiveScan
+ * @see algorithms.listBuilder.IntArrayList
+ */
+public class PrimitiveLinearSearch implements SearchingAlgorithm<Integer> {
+
+    /**
+     * This method will search an element in a list, which does not need to be sorted.
+     *
+     * @param list  List contains objects
+     * @param value Target is the element that needs to be searched for in the list.
+     * @return true if found in the collection and false if not
+     */
+    @Override
+    public boolean search(List<Integer> list, Integer value) {
+        return indexOf(list, value) >= 0;
+    }
+
+    /**
+     * This method will find the first index of an element in a list, which does not need to be sorted.
+     *
+     * @param list  List contains objects
+     * @param value Target is the element that needs to be searched for in the list.
+     * @return the index of the first occurrence of the value, -1 otherwise
+     */
+    @Override
+    public int indexOf(List<Integer> list, Integer value) {
+        if (list instanceof IntArrayList) {
+            IntArrayList ints = (IntArrayList) list;
+            return PrimitiveScan.indexOf(ints.array(), 0, ints.size(), value);
+        }
+
+        int i = 0;
+        for (Integer element : list) {
+            if (element.compareTo(value) == 0) return i;
+            i++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * This method will find the first element greater than a value in a list, which does not need to be sorted.
+     *
+     * @param list  List contains objects
+     * @param value the value elements are compared to
+     * @return the index of the first element greater than the value, -1 otherwise
+     */
+    public int firstGreaterThan(List<Integer> list, int value) {
+        if (list instanceof IntArrayList) {
+            IntArrayList ints = (IntArrayList) list;
+            return PrimitiveScan.firstGreaterThan(ints.array(), 0, ints.size(), value);
+        }
+
+        int i = 0;
+        for (Integer element : list) {
+            if (element > value) return i;
+            i++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * This method will count the occurrences of a value in a list, which does not need to be sorted.
+     *
+     * @param list  List contains objects
+     * @param value the value to count
+     * @return the number of elements equal to the value
+     */
+    public int countMatching(List<Integer> list, int value) {
+        if (list instanceof IntArrayList) {
+            IntArrayList ints = (IntArrayList) list;
+            return PrimitiveScan.countMatching(ints.array(), 0, ints.size(), value);
+        }
+
+        int count = 0;
+        for (Integer element : list)
+            if (element == value) count++;
+
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" + '}';
+    }
+}
@@ -0,0 +1,158 @@
+package algorithms.searching;
+
+/**
+ * Linear scans over primitive int and long arrays. Each loop tests a block of eight elements with non-short-circuit
+ * comparisons combined into one flag, and only looks for the exact position inside the block which set it, so the
+ * hot loop takes one predictable branch per eight elements instead of one per element. Counting loops carry no
+ * branch at all.
+ * <p>
+ * All ranges are <code>[from, to)</code>. Searches return the absolute index of the first element which matches,
+ * or -1 if there is none.
+ *
+ * @see PrimitiveLinearSearch
+ */
+public final class PrimitiveScan {
+    private static final int BLOCK = 8;
+
+    private PrimitiveScan() {
+    }
+
+    /**
+     * Finds the first element equal to a value
+     *
+     * @param array the array to scan
+     * @param from  the first index to scan (inclusive)
+     * @param to    the last index to scan (exclusive)
+     * @param value the value to look for
+     * @return the index of the first match, or -1
+     */
+    public static int indexOf(int[] array, int from, int to, int value) {
+        checkRange(array.length, from, to);
+
+        int i = from;
+        for (; i + BLOCK <= to; i += BLOCK) {
+            if (array[i] == value | array[i + 1] == value | array[i + 2] == value | array[i + 3] == value
+                    | array[i + 4] == value | array[i + 5] == value | array[i + 6] == value | array[i + 7] == value)
+                break;
+        }
+        for (; i < to; ++i)
+            if (array[i] == value) return i;
+
+        return -1;
+    }
+
+    /**
+     * Finds the first element greater than a value
+     *
+     * @param array the array to scan
+     * @param from  the first index to scan (inclusive)
+     * @param to    the last index to scan (exclusive)
+     * @param value the value elements are compared to
+     * @return the index of the first element greater than the value, or -1
+     */
+    public static int firstGreaterThan(int[] array, int from, int to, int value) {
+        checkRange(array.length, from, to);
+
+        int i = from;
+        for (; i + BLOCK <= to; i += BLOCK) {
+            if (array[i] > value | array[i + 1] > value | array[i + 2] > value | array[i + 3] > value
+                    | array[i + 4] > value | array[i + 5] > value | array[i + 6] > value | array[i + 7] > value)
+                break;
+        }
+        for (; i < to; ++i)
+            if (array[i] > value) return i;
+
+        return -1;
+    }
+
+    /**
+     * Counts the elements equal to a value
+     *
+     * @param array the array to scan
+     * @param from  the first index to scan (inclusive)
+     * @param to    the last index to scan (exclusive)
+     * @param value the value to count
+     * @return the number of elements equal to the value
+     */
+    public static int countMatching(int[] array, int from, int to, int value) {
+        checkRange(array.length, from, to);
+
+        int count = 0;
+        for (int i = from; i < to; ++i)
+            count += array[i] == value ? 1 : 0;
+
+        return count;
+    }
+
+    /**
+     * Finds the first element equal to a value
+     *
+     * @param array the array to scan
+     * @param from  the first index to scan (inclusive)
+     * @param to    the last index to scan (exclusive)
+     * @param value the value to look for
+     * @return the index of the first match, or -1
+     */
+    public static int indexOf(long[] array, int from, int to, long value) {
+        checkRange(array.length, from, to);
+
+        int i = from;
+        for (; i + BLOCK <= to; i += BLOCK) {
+            if (array[i] == value | array[i + 1] == value | array[i + 2] == value | array[i + 3] == value
+                    | array[i + 4] == value | array[i + 5] == value | array[i + 6] == value | array[i + 7] == value)
+                break;
+        }
+        for (; i < to; ++i)
+            if (array[i] == value) return i;
+
+        return -1;
+    }
+
+    /**
+     * Finds the first element greater than a value
+     *
+     * @param array the array to scan
+     * @param from  the first index to scan (inclusive)
+     * @param to    the last index to scan (exclusive)
+     * @param value the value elements are compared to
+     * @return the index of the first element greater than the value, or -1
+     */
+    public static int firstGreaterThan(long[] array, int from, int to, long value) {
+        checkRange(array.length, from, to);
+
+        int i = from;
+        for (; i + BLOCK <= to; i += BLOCK) {
+            if (array[i] > value | array[i + 1] > value | array[i + 2] > value | array[i + 3] > value
+                    | array[i + 4] > value | array[i + 5] > value | array[i + 6] > value | array[i + 7] > value)
+                break;
+        }
+        for (; i < to; ++i)
+            if (array[i] > value) return i;
+
+        return -1;
+    }
+
+    /**
+     * Counts the elements equal to a value
+     *
+     * @param array the array to scan
+     * @param from  the first index to scan (inclusive)
+     * @param to    the last index to scan (exclusive)
+     * @param value the value to count
+     * @return the number of elements equal to the value
+     */
+    public static int countMatching(long[] array, int from, int to, long value) {
+        checkRange(array.length, from, to);
+
+        int count = 0;
+        for (int i = from; i < to; ++i)
+            count += array[i] == value ? 1 : 0;
+
+        return count;
+    }
+
+    private static void checkRange(int length, int from, int to) {
+        if (from < 0 || to > length || from > to)
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + length);
+    }
+}
@@ -19,4 +19,29 @@ public interface SearchingAlgorithm<T extends Comparable<T>> {
      * @return a boolean whether the value was found in the collection
      */
     boolean search(List<T> list, T value);
+
+    /**
+     * This method will find the index of an element in a list, without printing anything.
+     *
+     * @param list  List contains objects
+     * @param value Target is the element that needs to be searched for in the list.
+     * @return the index of the first occurrence of the value, or a negative number if it is not in the list.
+     * Algorithms working on sorted lists return <code>-(insertion point) - 1</code>
+     */
+    int indexOf(List<T> list, T value);
+
+    /**
+     * This method will find the index of every key in a list, one lookup per key.
+     *
+     * @param list List contains objects
+     * @param keys the elements that need to be searched for in the list.
+     * @return for every key, in the order given, the result of {@link #indexOf(List, Comparable)}
+     */
+    default int[] indexOfAll(List<T> list, List<T> keys) {
+        int[] result = new int[keys.size()];
+        for (int i = 0; i < result.length; i++)
+            result[i] = indexOf(list, keys.get(i));
+
+        return result;
+    }
 }
@@ -2,7 +2,22 @@
  * This package provides the contract for defining and implementing Searching Algorithms.
  * It also provides the concretions/implementations for Binary Search and Linear Search.
  * Other, more complex algorithms can be implemented with the provided interface
+ *
+ * Algorithms for sorted lists implement the OrderedSearchingAlgorithm contract, which adds lower/upper bound,
+ * equal range and range count queries; none of the searches print anything.
+ * Interpolation Search and Exponential Search are provided for numeric keys close to uniform, and for matches
+ * near the front of the list. For large read-mostly int/long keys, the Eytzinger indexes re-lay the sorted keys
+ * out in breadth-first order for cache-friendly, branch-free lookups, and the LearnedIndex predicts positions with
+ * a small piecewise-linear model
+ *
+ * For repeated lookups on unsorted lists, HashIndexedSearch keeps a HashIndex (or IntHashIndex for Integer keys)
+ * of first positions for a TrackedList, rebuilt only when the list changes. One-off lookups on huge unsorted lists can be split
+ * across cores with ParallelLinearSearch, and PrimitiveLinearSearch scans an IntArrayList's int array directly
+ * with the blocked loops of PrimitiveScan. When most lookups are misses, BloomFilteredSearch puts a blocked
+ * BloomFilter in front of any of these algorithms to rule absent values out before they run
  * @see algorithms.searching.SearchingAlgorithm
+ * @see algorithms.searching.OrderedSearchingAlgorithm
+ * @see algorithms.searching.HashIndexedSearch
  */
 
 package algorithms.searching;
\ No newline at end of file
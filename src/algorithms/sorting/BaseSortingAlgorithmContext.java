@@ -1,10 +1,11 @@
 package algorithms.sorting;
 
+import algorithms.listBuilder.CopyOnWriteChunkedList;
+
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Abstract base class for defining the skeleton for a sorting algorithm context.
@@ -77,24 +78,39 @@ public abstract class BaseSortingAlgorithmContext<T extends Comparable<T>> imple
 
     /**
      * Implementation method for SortingStrategy's sort method.
-     * Calls template method 'initialize' method before sorting
+     * Calls template method 'initialize' method before sorting.
+     * If the items are a TrackedList which was sorted before, only the changed items are sorted and merged back in
      *
      * @see SortingContext
+     * @see TrackedList
      */
     public void sort() {
         initialize(this.items);
+
+        if (items instanceof TrackedList) {
+            TrackedList<T> trackedItems = (TrackedList<T>) items;
+            if (!trackedItems.repair(comparator)) {
+                sortingStrategy.sort(items, comparator);
+                trackedItems.markSorted(comparator);
+            }
+            sortingStrategy.setCompletionStatus(true);
+            return;
+        }
+
         if (!sortingStrategy.sortComplete())
             sortingStrategy.sort(items, comparator);
     }
 
     /**
-     * Sets the context's items
+     * Sets the context's items. The new items have not been sorted yet, so the sorting algorithm's
+     * completion status is reset
      *
      * @param list the list for the context to use
      */
     @Override
     public void setItems(List<T> list) {
         this.items = list;
+        resetCompletionStatus();
     }
 
     /**
@@ -113,7 +129,21 @@ public abstract class BaseSortingAlgorithmContext<T extends Comparable<T>> imple
      * @return a deep copy of the context's items
      */
     private List<T> copyItems() {
-        return this.items.stream().collect(Collectors.toList());
+        if (this.items instanceof TrackedList)
+            return ((TrackedList<T>) this.items).copy();
+        if (this.items instanceof CopyOnWriteChunkedList)
+            return ((CopyOnWriteChunkedList<T>) this.items).copy();
+
+        // Copy into a list that later clones and mementos can copy in constant time
+        return new CopyOnWriteChunkedList<>(this.items);
+    }
+
+    /**
+     * Marks the sorting algorithm as not complete, since the items or their order changed
+     */
+    private void resetCompletionStatus() {
+        if (sortingStrategy != null)
+            sortingStrategy.setCompletionStatus(false);
     }
 
     /**
@@ -127,12 +157,15 @@ public abstract class BaseSortingAlgorithmContext<T extends Comparable<T>> imple
     }
 
     /**
-     * Sets the context's comparator
+     * Sets the context's comparator. If the comparator changes, the items are not in the new order yet,
+     * so the sorting algorithm's completion status is reset
      *
      * @param comparator the comparator the context should use
      */
     @Override
     public void setComparator(Comparator<T> comparator) {
+        if (!Objects.equals(this.comparator, comparator))
+            resetCompletionStatus();
         this.comparator = comparator;
     }
 
@@ -0,0 +1,224 @@
+package algorithms.sorting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.BiConsumer;
+
+/**
+ * Implementation of SortedSetOperations which walks both sorted lists at once and uses galloping
+ * (exponential) search to skip over runs of items which cannot match. Skipping a run of <code>k</code>
+ * items costs <code>O(log k)</code> comparisons, so combining a list of <code>m</code> items with a much
+ * larger list of <code>n</code> items takes <code>O(m log(n / m))</code> comparisons instead of <code>O(n * m)</code>.
+ * <p>
+ * The left context's comparator is used for both lists, so both contexts should be sorted with equivalent comparators.
+ *
+ * @param <T> the type of items held by the contexts
+ * @see SortedSetOperations
+ */
+public class GallopingSortedSetOperations<T extends Comparable<T>> implements SortedSetOperations<T> {
+
+    @Override
+    public List<T> intersect(SortingContext<T> left, SortingContext<T> right) {
+        List<T> a = sortedItems(left), b = sortedItems(right);
+        Comparator<T> comparator = comparatorOf(left);
+        List<T> result = new ArrayList<>();
+
+        int i = 0, j = 0, n = a.size(), m = b.size();
+        while (i < n && j < m) {
+            int compareResult = comparator.compare(a.get(i), b.get(j));
+
+            if (compareResult < 0) {
+                i = gallop(a, b.get(j), i + 1, n, comparator, false);
+            } else if (compareResult > 0) {
+                j = gallop(b, a.get(i), j + 1, m, comparator, false);
+            } else {
+                int iEnd = gallop(a, a.get(i), i + 1, n, comparator, true);
+                int jEnd = gallop(b, b.get(j), j + 1, m, comparator, true);
+
+                result.addAll(a.subList(i, i + Math.min(iEnd - i, jEnd - j)));
+                i = iEnd;
+                j = jEnd;
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public List<T> union(SortingContext<T> left, SortingContext<T> right) {
+        List<T> a = sortedItems(left), b = sortedItems(right);
+        Comparator<T> comparator = comparatorOf(left);
+        List<T> result = new ArrayList<>(a.size() + b.size());
+
+        int i = 0, j = 0, n = a.size(), m = b.size();
+        while (i < n && j < m) {
+            int compareResult = comparator.compare(a.get(i), b.get(j));
+
+            if (compareResult < 0) {
+                int next = gallop(a, b.get(j), i + 1, n, comparator, false);
+                result.addAll(a.subList(i, next));
+                i = next;
+            } else if (compareResult > 0) {
+                int next = gallop(b, a.get(i), j + 1, m, comparator, false);
+                result.addAll(b.subList(j, next));
+                j = next;
+            } else {
+                int iEnd = gallop(a, a.get(i), i + 1, n, comparator, true);
+                int jEnd = gallop(b, b.get(j), j + 1, m, comparator, true);
+
+                // Prefer the left items, topping up with right items when the right run is longer
+                result.addAll(a.subList(i, iEnd));
+                if (jEnd - j > iEnd - i)
+                    result.addAll(b.subList(j + (iEnd - i), jEnd));
+
+                i = iEnd;
+                j = jEnd;
+            }
+        }
+
+        result.addAll(a.subList(i, n));
+        result.addAll(b.subList(j, m));
+        return result;
+    }
+
+    @Override
+    public List<T> difference(SortingContext<T> left, SortingContext<T> right) {
+        List<T> a = sortedItems(left), b = sortedItems(right);
+        Comparator<T> comparator = comparatorOf(left);
+        List<T> result = new ArrayList<>();
+
+        int i = 0, j = 0, n = a.size(), m = b.size();
+        while (i < n && j < m) {
+            int compareResult = comparator.compare(a.get(i), b.get(j));
+
+            if (compareResult < 0) {
+                int next = gallop(a, b.get(j), i + 1, n, comparator, false);
+                result.addAll(a.subList(i, next));
+                i = next;
+            } else if (compareResult > 0) {
+                j = gallop(b, a.get(i), j + 1, m, comparator, false);
+            } else {
+                int iEnd = gallop(a, a.get(i), i + 1, n, comparator, true);
+                int jEnd = gallop(b, b.get(j), j + 1, m, comparator, true);
+
+                if (iEnd - i > jEnd - j)
+                    result.addAll(a.subList(i + (jEnd - j), iEnd));
+
+                i = iEnd;
+                j = jEnd;
+            }
+        }
+
+        result.addAll(a.subList(i, n));
+        return result;
+    }
+
+    @Override
+    public void mergeJoin(SortingContext<T> left, SortingContext<T> right, BiConsumer<T, T> callback) {
+        List<T> a = sortedItems(left), b = sortedItems(right);
+        Comparator<T> comparator = comparatorOf(left);
+
+        int i = 0, j = 0, n = a.size(), m = b.size();
+        while (i < n && j < m) {
+            int compareResult = comparator.compare(a.get(i), b.get(j));
+
+            if (compareResult < 0) {
+                i = gallop(a, b.get(j), i + 1, n, comparator, false);
+            } else if (compareResult > 0) {
+                j = gallop(b, a.get(i), j + 1, m, comparator, false);
+            } else {
+                int iEnd = gallop(a, a.get(i), i + 1, n, comparator, true);
+                int jEnd = gallop(b, b.get(j), j + 1, m, comparator, true);
+
+                for (int x = i; x < iEnd; ++x)
+                    for (int y = j; y < jEnd; ++y)
+                        callback.accept(a.get(x), b.get(y));
+
+                i = iEnd;
+                j = jEnd;
+            }
+        }
+    }
+
+    /**
+     * Galloping search for the first index in <code>[from, to)</code> whose item is not ordered before the key.
+     * Probes <code>from, from + 1, from + 2, from + 4, ...</code> until passing the key, then binary searches
+     * the last gap, so finding an index <code>k</code> places away costs <code>O(log k)</code> comparisons
+     *
+     * @param list       the sorted list to search
+     * @param key        the key to search for
+     * @param from       the first index to search (inclusive)
+     * @param to         the last index to search (exclusive)
+     * @param comparator the comparator the list is sorted by
+     * @param upper      false to find the first item &gt;= key (lower bound), true to find the first item &gt; key (upper bound)
+     * @return the lower or upper bound of the key within the range
+     */
+    private int gallop(List<T> list, T key, int from, int to, Comparator<T> comparator, boolean upper) {
+        int lo = from, probe = from, step = 1;
+
+        while (probe < to && isBefore(list.get(probe), key, comparator, upper)) {
+            lo = probe + 1;
+            probe = from + step;
+            step <<= 1;
+        }
+
+        int hi = Math.min(probe, to);
+        while (lo < hi) {
+            int middle = (lo + hi) >>> 1;
+            if (isBefore(list.get(middle), key, comparator, upper))
+                lo = middle + 1;
+            else
+                hi = middle;
+        }
+
+        return lo;
+    }
+
+    /**
+     * Helper method for checking whether an item is ordered before the key
+     *
+     * @param item       the item to check
+     * @param key        the key to compare against
+     * @param comparator the comparator to compare with
+     * @param upper      whether items equal to the key count as before it
+     * @return true if the item is ordered before the key
+     */
+    private boolean isBefore(T item, T key, Comparator<T> comparator, boolean upper) {
+        int compareResult = comparator.compare(item, key);
+        return upper ? compareResult <= 0 : compareResult < 0;
+    }
+
+    /**
+     * Sorts the context (a no-op if it is already sorted) and returns its items as a random access list
+     *
+     * @param context the context to get the items from
+     * @return the sorted items of the context
+     */
+    private List<T> sortedItems(SortingContext<T> context) {
+        if (context.getItems() == null)
+            return Collections.emptyList();
+
+        context.sort();
+
+        List<T> items = context.getItems();
+        return items instanceof RandomAccess ? items : new ArrayList<>(items);
+    }
+
+    /**
+     * Gets the comparator of a context, falling back to natural ordering
+     *
+     * @param context the context to get the comparator from
+     * @return the comparator to compare items with
+     */
+    private Comparator<T> comparatorOf(SortingContext<T> context) {
+        return context.getComparator() == null ? Comparator.naturalOrder() : context.getComparator();
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" + '}';
+    }
+}
@@ -0,0 +1,695 @@
+package algorithms.sorting;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * SortingContext which keeps its items in a counted B+tree of wide nodes, so the items are sorted at all times.
+ * Every node records how many items its subtree holds, which gives <code>O(log n)</code> insert, delete,
+ * rank and select. Continuous ingestion therefore never needs a full re-sort.
+ * <p>
+ * The context's sorting algorithm is only used when bulk-loading a list through {@link #setItems(List)}
+ * (or when the comparator changes); the sorted items are then packed into leaves bottom-up in linear time.
+ *
+ * @param <T> the type of items the context will sort
+ * @see SortingContext
+ */
+public class OrderStatisticTreeContext<T extends Comparable<T>> implements SortingContext<T> {
+    /**
+     * Maximum number of items in a leaf, or children in an inner node
+     */
+    private static final int NODE_CAPACITY = 64;
+
+    /**
+     * Nodes with fewer entries than this are merged with, or refilled from, a sibling
+     */
+    private static final int MIN_NODE_ENTRIES = NODE_CAPACITY / 4;
+
+    /**
+     * Number of entries per node when bulk-loading, leaving room for later inserts
+     */
+    private static final int BULK_LOAD_ENTRIES = NODE_CAPACITY * 3 / 4;
+
+    private Node root;
+    private Comparator<T> comparator;
+    private SortingAlgorithm<T> sortingStrategy;
+
+    /**
+     * Default constructor, creates an empty context using natural ordering
+     */
+    public OrderStatisticTreeContext() {
+        this(null, new DefaultSortingAlgorithm<>(), Comparator.naturalOrder());
+    }
+
+    /**
+     * Constructor for bulk-loading the context with a list of items, using natural ordering
+     *
+     * @param items the items for the context
+     */
+    public OrderStatisticTreeContext(List<T> items) {
+        this(items, new DefaultSortingAlgorithm<>(), Comparator.naturalOrder());
+    }
+
+    /**
+     * Constructor for bulk-loading the context with a list of items, a sorting algorithm, and a comparator
+     *
+     * @param items           the items for the context, may be null
+     * @param sortingStrategy the sorting algorithm used when bulk-loading unsorted items
+     * @param comparator      the comparator the context should use
+     */
+    public OrderStatisticTreeContext(List<T> items, SortingAlgorithm<T> sortingStrategy, Comparator<T> comparator) {
+        this.sortingStrategy = sortingStrategy;
+        this.comparator = comparator;
+        setItems(items);
+    }
+
+    /**
+     * The items are always sorted, so there is nothing left to do
+     */
+    @Override
+    public void sort() {
+        if (sortingStrategy != null)
+            sortingStrategy.setCompletionStatus(true);
+    }
+
+    /**
+     * Inserts an item into its sorted position, after any equal items
+     *
+     * @param item the item to insert
+     */
+    public void add(T item) {
+        Node split = insert(root, item);
+        if (split != null) {
+            Inner newRoot = new Inner();
+            newRoot.children[0] = root;
+            newRoot.children[1] = split;
+            newRoot.keys[1] = firstKey(split);
+            newRoot.count = 2;
+            newRoot.size = root.size + split.size;
+            root = newRoot;
+        }
+    }
+
+    /**
+     * Removes one occurrence of an item
+     *
+     * @param item the item to remove
+     * @return true if an equal item was found and removed
+     */
+    public boolean remove(T item) {
+        int index = rank(item);
+        if (index >= size() || order().compare(select(index), item) != 0)
+            return false;
+
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Removes the item at the given sorted position
+     *
+     * @param index the sorted position of the item
+     * @return the removed item
+     */
+    public T removeAt(int index) {
+        checkIndex(index);
+
+        T removed = delete(root, index);
+        if (root instanceof Inner && root.count == 1)
+            root = ((Inner) root).children[0];
+
+        return removed;
+    }
+
+    /**
+     * Gets the number of items which are ordered strictly before the given item
+     *
+     * @param item the item to rank
+     * @return the rank of the item, which is also its lower bound position
+     */
+    public int rank(T item) {
+        Node node = root;
+        int before = 0;
+
+        while (node instanceof Inner) {
+            Inner inner = (Inner) node;
+            int child = childFor(inner, item, false);
+
+            for (int i = 0; i < child; ++i)
+                before += inner.children[i].size;
+
+            node = inner.children[child];
+        }
+
+        return before + position((Leaf) node, item, false);
+    }
+
+    /**
+     * Gets the item at the given sorted position
+     *
+     * @param index the sorted position, from 0 to size() - 1
+     * @return the item at that position
+     */
+    @SuppressWarnings("unchecked")
+    public T select(int index) {
+        checkIndex(index);
+
+        Node node = root;
+        while (node instanceof Inner) {
+            Inner inner = (Inner) node;
+            int child = 0;
+            while (index >= inner.children[child].size) {
+                index -= inner.children[child].size;
+                ++child;
+            }
+            node = inner.children[child];
+        }
+
+        return (T) ((Leaf) node).items[index];
+    }
+
+    /**
+     * Gets the number of items in the context
+     *
+     * @return the number of items
+     */
+    public int size() {
+        return root.size;
+    }
+
+    @Override
+    public void setComparator(Comparator<T> comparator) {
+        List<T> current = copyItems();
+        this.comparator = comparator;
+        setItems(current);
+    }
+
+    @Override
+    public Comparator<T> getComparator() {
+        return comparator;
+    }
+
+    @Override
+    public void setSortingAlgorithm(SortingAlgorithm<T> sortingAlgorithm) {
+        sortingStrategy = sortingAlgorithm;
+    }
+
+    @Override
+    public SortingAlgorithm<T> getSortingAlgorithm() {
+        return sortingStrategy;
+    }
+
+    /**
+     * Bulk-loads the context with the given items, replacing the current ones. The list itself is not kept,
+     * it is copied and, unless already in order, sorted with the context's sorting algorithm
+     *
+     * @param list the items for the context to hold
+     */
+    @Override
+    public void setItems(List<T> list) {
+        List<T> sorted = list == null ? new ArrayList<>() : new ArrayList<>(list);
+
+        if (!isSorted(sorted)) {
+            if (sortingStrategy != null) {
+                sortingStrategy.setCompletionStatus(false);
+                sortingStrategy.sort(sorted, comparator);
+            } else {
+                sorted.sort(order());
+            }
+        }
+
+        root = bulkLoad(sorted);
+        sort();
+    }
+
+    /**
+     * Gets a read-only, always sorted view of the items. Lookups by index cost <code>O(log n)</code>
+     *
+     * @return the sorted items from the context
+     */
+    @Override
+    public List<T> getItems() {
+        return new SortedView();
+    }
+
+    @Override
+    public Iterator<T> getIterator() {
+        return new LeafIterator();
+    }
+
+    /**
+     * Creates a clone of the context by bulk-loading its (already sorted) items into a new tree
+     *
+     * @return a deep clone of the context
+     * @throws CloneNotSupportedException throws if the base class doesn't implement the Cloneable interface
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public OrderStatisticTreeContext<T> deepClone() throws CloneNotSupportedException {
+        OrderStatisticTreeContext<T> clone = (OrderStatisticTreeContext<T>) super.clone();
+        // Set clone reference members to class's reference clones
+        clone.root = bulkLoad(copyItems());
+        clone.sortingStrategy = sortingStrategy == null ? null : sortingStrategy.deepClone();
+        clone.comparator = comparator;
+        return clone;
+    }
+
+    /**
+     * Recursively inserts an item below the given node
+     *
+     * @param node the node to insert below
+     * @param item the item to insert
+     * @return the new right sibling if the node had to split, otherwise null
+     */
+    private Node insert(Node node, T item) {
+        node.size++;
+
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int position = position(leaf, item, true);
+            System.arraycopy(leaf.items, position, leaf.items, position + 1, leaf.count - position);
+            leaf.items[position] = item;
+            leaf.count++;
+            return leaf.count > NODE_CAPACITY ? splitLeaf(leaf) : null;
+        }
+
+        Inner inner = (Inner) node;
+        int child = childFor(inner, item, true);
+        Node split = insert(inner.children[child], item);
+
+        if (split != null) {
+            int at = child + 1;
+            System.arraycopy(inner.children, at, inner.children, at + 1, inner.count - at);
+            System.arraycopy(inner.keys, at, inner.keys, at + 1, inner.count - at);
+            inner.children[at] = split;
+            inner.keys[at] = firstKey(split);
+            inner.count++;
+        }
+
+        return inner.count > NODE_CAPACITY ? splitInner(inner) : null;
+    }
+
+    /**
+     * Recursively deletes the item at a position below the given node, rebalancing underfull children
+     *
+     * @param node  the node to delete below
+     * @param index the position of the item within the node's subtree
+     * @return the removed item
+     */
+    @SuppressWarnings("unchecked")
+    private T delete(Node node, int index) {
+        node.size--;
+
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            T removed = (T) leaf.items[index];
+            System.arraycopy(leaf.items, index + 1, leaf.items, index, leaf.count - index - 1);
+            leaf.items[--leaf.count] = null;
+            return removed;
+        }
+
+        Inner inner = (Inner) node;
+        int child = 0;
+        while (index >= inner.children[child].size) {
+            index -= inner.children[child].size;
+            ++child;
+        }
+
+        T removed = delete(inner.children[child], index);
+        if (inner.children[child].count < MIN_NODE_ENTRIES && inner.count > 1)
+            rebalance(inner, child > 0 ? child - 1 : child);
+
+        return removed;
+    }
+
+    /**
+     * Merges two neighbouring children if their entries fit in one node, otherwise splits their entries evenly
+     *
+     * @param parent the parent of both children
+     * @param left   the index of the left child; the right child is at <code>left + 1</code>
+     */
+    private void rebalance(Inner parent, int left) {
+        Node leftNode = parent.children[left];
+        Node rightNode = parent.children[left + 1];
+        int total = leftNode.count + rightNode.count;
+        int leftCount = total <= NODE_CAPACITY ? total : total / 2;
+
+        if (leftNode instanceof Leaf) {
+            Leaf a = (Leaf) leftNode, b = (Leaf) rightNode;
+            Object[] items = new Object[total];
+            System.arraycopy(a.items, 0, items, 0, a.count);
+            System.arraycopy(b.items, 0, items, a.count, b.count);
+
+            fillLeaf(a, items, 0, leftCount);
+            if (leftCount == total) {
+                a.next = b.next;
+            } else {
+                fillLeaf(b, items, leftCount, total);
+                parent.keys[left + 1] = b.items[0];
+            }
+        } else {
+            Inner a = (Inner) leftNode, b = (Inner) rightNode;
+            Node[] children = new Node[total];
+            Object[] keys = new Object[total];
+            System.arraycopy(a.children, 0, children, 0, a.count);
+            System.arraycopy(a.keys, 0, keys, 0, a.count);
+            System.arraycopy(b.children, 0, children, a.count, b.count);
+            System.arraycopy(b.keys, 0, keys, a.count, b.count);
+            keys[a.count] = parent.keys[left + 1];
+
+            fillInner(a, children, keys, 0, leftCount);
+            if (leftCount < total) {
+                fillInner(b, children, keys, leftCount, total);
+                parent.keys[left + 1] = keys[leftCount];
+            }
+        }
+
+        if (leftCount == total) {
+            int from = left + 2;
+            System.arraycopy(parent.children, from, parent.children, from - 1, parent.count - from);
+            System.arraycopy(parent.keys, from, parent.keys, from - 1, parent.count - from);
+            parent.count--;
+            parent.children[parent.count] = null;
+            parent.keys[parent.count] = null;
+        }
+    }
+
+    /**
+     * Splits a full leaf in half
+     *
+     * @param leaf the leaf to split
+     * @return the new right half
+     */
+    private Leaf splitLeaf(Leaf leaf) {
+        Leaf right = new Leaf();
+        int half = leaf.count / 2;
+
+        fillLeaf(right, leaf.items, half, leaf.count);
+        for (int i = half; i < leaf.count; ++i) leaf.items[i] = null;
+        leaf.count = half;
+        leaf.size = half;
+
+        right.next = leaf.next;
+        leaf.next = right;
+        return right;
+    }
+
+    /**
+     * Splits a full inner node in half
+     *
+     * @param inner the node to split
+     * @return the new right half
+     */
+    private Inner splitInner(Inner inner) {
+        Inner right = new Inner();
+        int half = inner.count / 2;
+
+        fillInner(right, inner.children, inner.keys, half, inner.count);
+        for (int i = half; i < inner.count; ++i) {
+            inner.children[i] = null;
+            inner.keys[i] = null;
+        }
+        inner.count = half;
+        inner.size -= right.size;
+        return right;
+    }
+
+    /**
+     * Replaces the items of a leaf with a range of the given items
+     */
+    private void fillLeaf(Leaf leaf, Object[] items, int from, int to) {
+        Arrays.fill(leaf.items, null);
+        System.arraycopy(items, from, leaf.items, 0, to - from);
+        leaf.count = to - from;
+        leaf.size = leaf.count;
+    }
+
+    /**
+     * Replaces the children of an inner node with a range of the given children and their separator keys
+     */
+    private void fillInner(Inner inner, Node[] children, Object[] keys, int from, int to) {
+        Arrays.fill(inner.children, null);
+        Arrays.fill(inner.keys, null);
+        System.arraycopy(children, from, inner.children, 0, to - from);
+        System.arraycopy(keys, from + 1, inner.keys, 1, to - from - 1);
+        inner.count = to - from;
+        inner.size = 0;
+        for (int i = 0; i < inner.count; ++i) inner.size += inner.children[i].size;
+    }
+
+    /**
+     * Builds a tree bottom-up from sorted items, packing every level in one pass
+     *
+     * @param sorted the sorted items
+     * @return the root of the new tree
+     */
+    private Node bulkLoad(List<T> sorted) {
+        List<Node> level = new ArrayList<>();
+        List<Object> minimums = new ArrayList<>();
+
+        int leafCount = Math.max(1, (sorted.size() + BULK_LOAD_ENTRIES - 1) / BULK_LOAD_ENTRIES);
+        Leaf previous = null;
+        for (int i = 0; i < leafCount; ++i) {
+            int from = (int) ((long) sorted.size() * i / leafCount);
+            int to = (int) ((long) sorted.size() * (i + 1) / leafCount);
+
+            Leaf leaf = new Leaf();
+            for (int j = from; j < to; ++j) leaf.items[j - from] = sorted.get(j);
+            leaf.count = to - from;
+            leaf.size = leaf.count;
+
+            if (previous != null) previous.next = leaf;
+            previous = leaf;
+            level.add(leaf);
+            minimums.add(leaf.items[0]);
+        }
+
+        while (level.size() > 1) {
+            List<Node> parents = new ArrayList<>();
+            List<Object> parentMinimums = new ArrayList<>();
+
+            int parentCount = (level.size() + BULK_LOAD_ENTRIES - 1) / BULK_LOAD_ENTRIES;
+            for (int i = 0; i < parentCount; ++i) {
+                int from = (int) ((long) level.size() * i / parentCount);
+                int to = (int) ((long) level.size() * (i + 1) / parentCount);
+
+                Inner inner = new Inner();
+                for (int j = from; j < to; ++j) {
+                    inner.children[j - from] = level.get(j);
+                    if (j > from) inner.keys[j - from] = minimums.get(j);
+                    inner.size += level.get(j).size;
+                }
+                inner.count = to - from;
+
+                parents.add(inner);
+                parentMinimums.add(minimums.get(from));
+            }
+
+            level = parents;
+            minimums = parentMinimums;
+        }
+
+        return level.get(0);
+    }
+
+    /**
+     * Finds which child of an inner node holds the lower (or upper) bound of an item
+     *
+     * @param inner the node to search
+     * @param item  the item to route
+     * @param upper false to route to the lower bound, true to route to the upper bound
+     * @return the index of the child
+     */
+    @SuppressWarnings("unchecked")
+    private int childFor(Inner inner, T item, boolean upper) {
+        Comparator<T> order = order();
+        int lo = 1, hi = inner.count;
+
+        while (lo < hi) {
+            int middle = (lo + hi) >>> 1;
+            int compareResult = order.compare((T) inner.keys[middle], item);
+            if (upper ? compareResult <= 0 : compareResult < 0)
+                lo = middle + 1;
+            else
+                hi = middle;
+        }
+
+        return lo - 1;
+    }
+
+    /**
+     * Finds the lower (or upper) bound of an item within a leaf
+     *
+     * @param leaf  the leaf to search
+     * @param item  the item to search for
+     * @param upper false for the first position &gt;= item, true for the first position &gt; item
+     * @return the position within the leaf
+     */
+    @SuppressWarnings("unchecked")
+    private int position(Leaf leaf, T item, boolean upper) {
+        Comparator<T> order = order();
+        int lo = 0, hi = leaf.count;
+
+        while (lo < hi) {
+            int middle = (lo + hi) >>> 1;
+            int compareResult = order.compare((T) leaf.items[middle], item);
+            if (upper ? compareResult <= 0 : compareResult < 0)
+                lo = middle + 1;
+            else
+                hi = middle;
+        }
+
+        return lo;
+    }
+
+    /**
+     * Gets the smallest item below a node
+     */
+    private Object firstKey(Node node) {
+        while (node instanceof Inner) node = ((Inner) node).children[0];
+        return ((Leaf) node).items[0];
+    }
+
+    /**
+     * Gets the leftmost leaf, where in-order iteration starts
+     */
+    private Leaf firstLeaf() {
+        Node node = root;
+        while (node instanceof Inner) node = ((Inner) node).children[0];
+        return (Leaf) node;
+    }
+
+    /**
+     * Checks whether a list is already in order according to the context's comparator
+     */
+    private boolean isSorted(List<T> list) {
+        Comparator<T> order = order();
+        for (int i = 1; i < list.size(); ++i)
+            if (order.compare(list.get(i - 1), list.get(i)) > 0) return false;
+
+        return true;
+    }
+
+    /**
+     * Copies the items out of the tree in sorted order
+     */
+    private List<T> copyItems() {
+        List<T> items = new ArrayList<>(size());
+        Iterator<T> iterator = getIterator();
+        while (iterator.hasNext()) items.add(iterator.next());
+        return items;
+    }
+
+    /**
+     * Gets the comparator to order items by, falling back to natural ordering
+     */
+    private Comparator<T> order() {
+        return comparator == null ? Comparator.naturalOrder() : comparator;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size())
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderStatisticTreeContext<?> that = (OrderStatisticTreeContext<?>) o;
+        return Objects.equals(getItems(), that.getItems()) &&
+                Objects.equals(comparator, that.comparator) &&
+                Objects.equals(sortingStrategy, that.sortingStrategy);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getItems(), comparator, sortingStrategy);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" +
+                "size=" + size() +
+                ", comparator=" + comparator +
+                ", sortingStrategy=" + sortingStrategy +
+                "}";
+    }
+
+    /**
+     * Base tree node, tracking its number of entries and the number of items in its subtree
+     */
+    private static abstract class Node {
+        int count;
+        int size;
+    }
+
+    /**
+     * Leaf node holding items, linked to the next leaf for in-order iteration
+     */
+    private static final class Leaf extends Node {
+        final Object[] items = new Object[NODE_CAPACITY + 1];
+        Leaf next;
+    }
+
+    /**
+     * Inner node holding children; <code>keys[i]</code> separates child <code>i - 1</code> from child <code>i</code>
+     */
+    private static final class Inner extends Node {
+        final Node[] children = new Node[NODE_CAPACITY + 1];
+        final Object[] keys = new Object[NODE_CAPACITY + 1];
+    }
+
+    /**
+     * Read-only list view over the tree
+     */
+    private class SortedView extends AbstractList<T> implements RandomAccess {
+        @Override
+        public T get(int index) {
+            return select(index);
+        }
+
+        @Override
+        public int size() {
+            return OrderStatisticTreeContext.this.size();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new LeafIterator();
+        }
+    }
+
+    /**
+     * Iterator walking the linked leaves in sorted order
+     */
+    private class LeafIterator implements Iterator<T> {
+        private Leaf leaf = firstLeaf();
+        private int position;
+
+        public boolean hasNext() {
+            while (leaf != null && position >= leaf.count) {
+                leaf = leaf.next;
+                position = 0;
+            }
+            return leaf != null;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return (T) leaf.items[position++];
+        }
+
+        public void remove() {
+            throw new RuntimeException("Operation is invalid, Iterator is does not mutate.");
+        }
+    }
+}
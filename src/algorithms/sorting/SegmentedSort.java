@@ -0,0 +1,203 @@
+package algorithms.sorting;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Batch sort for many small lists packed into one flat array. The caller supplies the data plus segment offsets,
+ * where segment <code>s</code> covers <code>data[offsets[s]]</code> up to (excluding) <code>data[offsets[s + 1]]</code>,
+ * and every segment is sorted in place independently.
+ * <p>
+ * Segments of up to 16 items are sorted with a fixed sorting network of branch-free min/max compare-exchanges,
+ * segments of up to 64 items with insertion sort, and anything larger with the JDK's dual-pivot quicksort.
+ * No per-list context, algorithm, or id is created, which is what dominates the cost of sorting tiny lists one by one.
+ */
+public class SegmentedSort {
+    /**
+     * Largest segment sorted with a sorting network
+     */
+    private static final int NETWORK_MAX_SIZE = 16;
+
+    /**
+     * Largest segment sorted with insertion sort
+     */
+    private static final int INSERTION_MAX_SIZE = 64;
+
+    /**
+     * Number of items below which a parallel task stops splitting and sorts its segments directly
+     */
+    private static final int PARALLEL_GRAIN = 1 << 14;
+
+    /**
+     * Compare-exchange pairs for each segment size, flattened as <code>{i0, j0, i1, j1, ...}</code>
+     */
+    private static final int[][] NETWORKS = buildNetworks();
+
+    /**
+     * Sorts every segment of the data on the calling thread
+     *
+     * @param data    the flat array holding all segments
+     * @param offsets the segment boundaries, <code>segments + 1</code> non-decreasing offsets into the data
+     */
+    public void sort(int[] data, int[] offsets) {
+        checkOffsets(data, offsets);
+        sortSegments(data, offsets, 0, offsets.length - 1);
+    }
+
+    /**
+     * Sorts every segment of the data, spreading the segments over the common fork-join pool
+     *
+     * @param data    the flat array holding all segments
+     * @param offsets the segment boundaries, <code>segments + 1</code> non-decreasing offsets into the data
+     */
+    public void parallelSort(int[] data, int[] offsets) {
+        checkOffsets(data, offsets);
+        ForkJoinPool.commonPool().invoke(new SegmentTask(data, offsets, 0, offsets.length - 1));
+    }
+
+    /**
+     * Sorts a range of segments
+     *
+     * @param data    the flat array holding all segments
+     * @param offsets the segment boundaries
+     * @param from    the first segment to sort (inclusive)
+     * @param to      the last segment to sort (exclusive)
+     */
+    private static void sortSegments(int[] data, int[] offsets, int from, int to) {
+        for (int s = from; s < to; ++s) {
+            int start = offsets[s], length = offsets[s + 1] - start;
+
+            if (length <= NETWORK_MAX_SIZE)
+                networkSort(data, start, NETWORKS[length]);
+            else if (length <= INSERTION_MAX_SIZE)
+                insertionSort(data, start, start + length);
+            else
+                Arrays.sort(data, start, start + length);
+        }
+    }
+
+    /**
+     * Sorts one segment by running it through a sorting network
+     *
+     * @param data    the flat array
+     * @param start   the offset of the segment
+     * @param network the compare-exchange pairs for the segment's size
+     */
+    private static void networkSort(int[] data, int start, int[] network) {
+        for (int p = 0; p < network.length; p += 2) {
+            int i = start + network[p], j = start + network[p + 1];
+            int a = data[i], b = data[j];
+            data[i] = Math.min(a, b);
+            data[j] = Math.max(a, b);
+        }
+    }
+
+    /**
+     * Sorts one segment with insertion sort
+     *
+     * @param data the flat array
+     * @param from the first index of the segment (inclusive)
+     * @param to   the last index of the segment (exclusive)
+     */
+    private static void insertionSort(int[] data, int from, int to) {
+        for (int i = from + 1; i < to; ++i) {
+            int key = data[i];
+            int j = i - 1;
+
+            while (j >= from && data[j] > key) {
+                data[j + 1] = data[j];
+                j--;
+            }
+
+            data[j + 1] = key;
+        }
+    }
+
+    /**
+     * Validates that the offsets describe segments within the data
+     */
+    private void checkOffsets(int[] data, int[] offsets) {
+        if (offsets.length == 0)
+            throw new IllegalArgumentException("Offsets must contain at least the start offset");
+
+        for (int s = 0; s < offsets.length - 1; ++s)
+            if (offsets[s] > offsets[s + 1])
+                throw new IllegalArgumentException("Offsets must be non-decreasing, offset " + s + " is " + offsets[s] + " but offset " + (s + 1) + " is " + offsets[s + 1]);
+
+        if (offsets[0] < 0 || offsets[offsets.length - 1] > data.length)
+            throw new IllegalArgumentException("Offsets must lie within the data (length " + data.length + ")");
+    }
+
+    /**
+     * Builds Batcher's odd-even merge sort network for 16 inputs, and derives the network for every smaller
+     * size by dropping the compare-exchanges which touch inputs past the end (they behave as +infinity, never moving)
+     *
+     * @return the compare-exchange pairs for each size from 0 to 16
+     */
+    private static int[][] buildNetworks() {
+        int[] full = new int[2 * 63];
+        int pairs = 0;
+
+        for (int p = 1; p < NETWORK_MAX_SIZE; p <<= 1)
+            for (int k = p; k >= 1; k >>= 1)
+                for (int j = k % p; j <= NETWORK_MAX_SIZE - 1 - k; j += 2 * k)
+                    for (int i = 0; i <= Math.min(k - 1, NETWORK_MAX_SIZE - j - k - 1); ++i)
+                        if ((i + j) / (2 * p) == (i + j + k) / (2 * p)) {
+                            full[2 * pairs] = i + j;
+                            full[2 * pairs + 1] = i + j + k;
+                            pairs++;
+                        }
+
+        int[][] networks = new int[NETWORK_MAX_SIZE + 1][];
+        for (int size = 0; size <= NETWORK_MAX_SIZE; ++size) {
+            int[] network = new int[2 * pairs];
+            int length = 0;
+
+            for (int p = 0; p < pairs; ++p)
+                if (full[2 * p + 1] < size) {
+                    network[length++] = full[2 * p];
+                    network[length++] = full[2 * p + 1];
+                }
+
+            networks[size] = Arrays.copyOf(network, length);
+        }
+
+        return networks;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " {" + '}';
+    }
+
+    /**
+     * Fork-join task splitting a range of segments in half until it holds few enough items to sort directly
+     */
+    private static class SegmentTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] data;
+        private final int[] offsets;
+        private final int from;
+        private final int to;
+
+        SegmentTask(int[] data, int[] offsets, int from, int to) {
+            this.data = data;
+            this.offsets = offsets;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1 || offsets[to] - offsets[from] <= PARALLEL_GRAIN) {
+                sortSegments(data, offsets, from, to);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new SegmentTask(data, offsets, from, middle), new SegmentTask(data, offsets, middle, to));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package algorithms.sorting;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Interface providing the contract for set operations between the items of two sorted contexts.
+ * Both contexts are sorted (if they are not already) before the operation runs, and their items are
+ * treated as sorted multisets: duplicates are kept and matched pairwise.
+ *
+ * @param <T> the type of items held by the contexts
+ * @see SortingContext
+ */
+public interface SortedSetOperations<T extends Comparable<T>> {
+    /**
+     * Computes the items found in both contexts. An item occurring <code>a</code> times in the left context
+     * and <code>b</code> times in the right context occurs <code>min(a, b)</code> times in the result
+     *
+     * @param left  the left context
+     * @param right the right context
+     * @return a new sorted list with the intersection of both contexts
+     */
+    List<T> intersect(SortingContext<T> left, SortingContext<T> right);
+
+    /**
+     * Computes the items found in either context. An item occurring <code>a</code> times in the left context
+     * and <code>b</code> times in the right context occurs <code>max(a, b)</code> times in the result
+     *
+     * @param left  the left context
+     * @param right the right context
+     * @return a new sorted list with the union of both contexts
+     */
+    List<T> union(SortingContext<T> left, SortingContext<T> right);
+
+    /**
+     * Computes the items of the left context which are not in the right context. An item occurring <code>a</code>
+     * times in the left context and <code>b</code> times in the right context occurs <code>max(a - b, 0)</code>
+     * times in the result
+     *
+     * @param left  the context to take items from
+     * @param right the context whose items are removed
+     * @return a new sorted list with the difference of both contexts
+     */
+    List<T> difference(SortingContext<T> left, SortingContext<T> right);
+
+    /**
+     * Joins both contexts on equal items, calling the callback once for every pair of equal items
+     * (left item, right item), in sorted order
+     *
+     * @param left     the left context
+     * @param right    the right context
+     * @param callback the callback receiving each matching pair
+     */
+    void mergeJoin(SortingContext<T> left, SortingContext<T> right, BiConsumer<T, T> callback);
+}
@@ -1,7 +1,9 @@
 package algorithms.sorting;
 
 import algorithms.ICloneable;
+import algorithms.output.ResultSink;
 
+import java.io.IOException;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -66,4 +68,16 @@ public interface SortingContext<T extends Comparable<T>> extends ICloneable<Sort
      * @return the iterator from the strategy
      */
     Iterator<T> getIterator();
+
+    /**
+     * Sorts the strategy's items if needed, then streams them in order to a result sink and flushes it
+     *
+     * @param sink the sink to write the sorted items to
+     * @throws IOException if the sink cannot be written to
+     */
+    default void writeTo(ResultSink sink) throws IOException {
+        sort();
+        sink.writeAll(getItems());
+        sink.flush();
+    }
 }
@@ -0,0 +1,206 @@
+package algorithms.sorting;
+
+import algorithms.listBuilder.CopyOnWriteChunkedList;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * List wrapper which records which items changed since the list was last sorted. Overwritten positions are
+ * marked dirty and appended items are kept apart from the sorted prefix, so a sorting context can repair the
+ * order by sorting only the <code>d</code> changed items and merging them back in, in <code>O(d log d + n)</code>,
+ * instead of sorting everything again.
+ * <p>
+ * All changes have to go through the wrapper; changes made directly to the wrapped list are not tracked.
+ *
+ * @param <T> the type of items in the list
+ * @see BaseSortingAlgorithmContext#sort()
+ */
+public class TrackedList<T> extends AbstractList<T> implements RandomAccess {
+    private final List<T> items;
+    private BitSet dirty;
+    private int cleanSize;
+    private boolean sorted;
+    private Comparator<T> sortedBy;
+    private long modifications;
+
+    /**
+     * Constructor for wrapping a list whose order is unknown, so the first sort will be a full sort
+     *
+     * @param items the list to wrap
+     */
+    public TrackedList(List<T> items) {
+        this.items = items instanceof RandomAccess ? items : new ArrayList<>(items);
+        this.dirty = new BitSet();
+    }
+
+    /**
+     * Copy constructor, copying the items and the tracked changes. Copy-on-write items are copied in constant time;
+     * any other list is copied once into a copy-on-write list, so copies of the copy take constant time
+     *
+     * @param other the tracked list to copy
+     */
+    private TrackedList(TrackedList<T> other) {
+        this.items = other.items instanceof CopyOnWriteChunkedList
+                ? ((CopyOnWriteChunkedList<T>) other.items).copy()
+                : new CopyOnWriteChunkedList<>(other.items);
+        this.dirty = (BitSet) other.dirty.clone();
+        this.cleanSize = other.cleanSize;
+        this.sorted = other.sorted;
+        this.sortedBy = other.sortedBy;
+        this.modifications = other.modifications;
+    }
+
+    @Override
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public T set(int index, T item) {
+        T previous = items.set(index, item);
+        if (index < cleanSize) dirty.set(index);
+        modifications++;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, T item) {
+        // Items added to the end are tracked as appends, anything else invalidates the sorted prefix
+        if (index != items.size()) sorted = false;
+        items.add(index, item);
+        modCount++;
+        modifications++;
+    }
+
+    @Override
+    public T remove(int index) {
+        T removed = items.remove(index);
+
+        // Removing an item keeps the rest of the sorted prefix in order, only the dirty positions shift
+        if (index < cleanSize) {
+            cleanSize--;
+            BitSet shifted = dirty.get(0, index);
+            for (int i = dirty.nextSetBit(index + 1); i >= 0; i = dirty.nextSetBit(i + 1))
+                shifted.set(i - 1);
+            dirty = shifted;
+        }
+
+        modCount++;
+        modifications++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        items.clear();
+        dirty.clear();
+        cleanSize = 0;
+        modCount++;
+        modifications++;
+    }
+
+    /**
+     * Gets the number of changes made through the wrapper, useful for invalidating anything derived from the list
+     *
+     * @return the number of changes made so far
+     */
+    public long getModificationCount() {
+        return modifications;
+    }
+
+    /**
+     * Gets whether the list is known to be in order according to the given comparator
+     *
+     * @param comparator the comparator to check against
+     * @return true if the list was sorted by the comparator and has not changed since
+     */
+    public boolean isSorted(Comparator<T> comparator) {
+        return sorted && Objects.equals(sortedBy, comparator) && dirty.isEmpty() && cleanSize == items.size();
+    }
+
+    /**
+     * Gets the number of changed items which have to be merged back in on the next repair
+     *
+     * @return the number of dirty and appended items
+     */
+    public int getDirtyCount() {
+        return dirty.cardinality() + (items.size() - cleanSize);
+    }
+
+    /**
+     * Records that the whole list is now in order according to the given comparator
+     *
+     * @param comparator the comparator the list is sorted by
+     */
+    public void markSorted(Comparator<T> comparator) {
+        dirty.clear();
+        cleanSize = items.size();
+        sorted = true;
+        sortedBy = comparator;
+    }
+
+    /**
+     * Restores the order of the list by pulling out the changed items, sorting them, and merging them back
+     * into the untouched (still sorted) items. Only possible if the list was previously sorted by the same comparator
+     *
+     * @param comparator the comparator to sort by, or null for natural ordering
+     * @return true if the list is in order afterwards, false if it needs a full sort instead
+     */
+    @SuppressWarnings("unchecked")
+    public boolean repair(Comparator<T> comparator) {
+        if (!sorted || !Objects.equals(sortedBy, comparator))
+            return false;
+
+        int n = items.size(), dirtyCount = getDirtyCount();
+        if (dirtyCount == 0)
+            return true;
+
+        // Compact the clean items to the front, collecting the dirty and appended ones
+        Object[] changed = new Object[dirtyCount];
+        int clean = 0, next = 0;
+        for (int i = 0; i < cleanSize; ++i) {
+            if (dirty.get(i))
+                changed[next++] = items.get(i);
+            else
+                items.set(clean++, items.get(i));
+        }
+        for (int i = cleanSize; i < n; ++i)
+            changed[next++] = items.get(i);
+
+        Comparator<Object> order = (Comparator<Object>) (comparator == null ? Comparator.naturalOrder() : comparator);
+        Arrays.sort(changed, order);
+
+        // Merge from the back, so the clean items never get overwritten before they are moved
+        int i = clean - 1, j = dirtyCount - 1;
+        for (int k = n - 1; j >= 0; --k) {
+            if (i >= 0 && order.compare(items.get(i), changed[j]) > 0)
+                items.set(k, items.get(i--));
+            else
+                items.set(k, (T) changed[j--]);
+        }
+
+        markSorted(comparator);
+        return true;
+    }
+
+    /**
+     * Creates a copy of the list, including the changes tracked so far
+     *
+     * @return a tracked copy of the list
+     */
+    public TrackedList<T> copy() {
+        return new TrackedList<>(this);
+    }
+}
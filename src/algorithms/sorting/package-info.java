@@ -2,7 +2,17 @@
  * This package provides the contract for defining and implementing Sorting Algorithms.
  * It also provides baseline concretions/implementations for Bubble Sort, Insertion Sort, Merge Sort, and Quick Sort.
  * Other, more complex algorithms can be implemented with the provided interface and base classes
+ *
+ * Sorted contexts can be combined (intersection, union, difference, merge-join) with the SortedSetOperations
+ * contract, which has a galloping implementation for lists of very different sizes.
+ * For items which arrive continuously, the OrderStatisticTreeContext keeps them sorted in a counted B+tree,
+ * and wrapping a context's items in a TrackedList lets it re-sort only the items which changed.
+ * Large batches of tiny integer lists can be sorted in one flat array with the SegmentedSort
  * @see algorithms.sorting.SortingAlgorithm
  * @see algorithms.sorting.BaseSortingAlgorithm
+ * @see algorithms.sorting.SortedSetOperations
+ * @see algorithms.sorting.OrderStatisticTreeContext
+ * @see algorithms.sorting.TrackedList
+ * @see algorithms.sorting.SegmentedSort
  */
 package algorithms.sorting;
\ No newline at end of file
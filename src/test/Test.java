@@ -1,12 +1,22 @@
 package test;
 
 import algorithms.factories.*;
+import algorithms.listBuilder.CompressedSortedIntList;
+import algorithms.listBuilder.IntFileLoader;
 import algorithms.listBuilder.IntegerListBuilder;
 import algorithms.listBuilder.ListBuilder;
+import algorithms.output.ChannelResultSink;
+import algorithms.output.ResultSink;
+import algorithms.searching.BinarySearch;
+import algorithms.searching.ExponentialSearch;
+import algorithms.searching.InterpolationSearch;
+import algorithms.searching.OrderedSearchingAlgorithm;
 import algorithms.sorting.*;
 
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.Callable;
 
@@ -44,6 +54,7 @@ public class Test {
         runTest("Strategy", Test::testSortingAlgorithmContextStrategy);
         runTest("Builder", Test::testIntegerListBuilder);
         runTest("Prototype", Test::testICloneableInterfaceOnSortingAlgorithmContext);
+        runTest("Compressed Search", Test::testCompressedSortedIntListSearch);
     }
 
     /**
@@ -277,6 +288,34 @@ public class Test {
         return null;
     }
 
+    /**
+     * Method to test that the ordered searching algorithms find the same bounds in a CompressedSortedIntList, through
+     * its skip pointers, as in an ArrayList holding the same values
+     *
+     * @see CompressedSortedIntList
+     */
+    public static Void testCompressedSortedIntListSearch() {
+        List<Integer> values = new IntegerListBuilder(10000).makeRandom(42).build();
+        int[] sorted = values.stream().mapToInt(Integer::intValue).sorted().toArray();
+
+        List<Integer> compressed = new CompressedSortedIntList(sorted);
+        List<Integer> generic = new ArrayList<>(compressed);
+        List<OrderedSearchingAlgorithm<Integer>> algorithms = Arrays.asList(
+                new BinarySearch<>(), new ExponentialSearch<>(), new InterpolationSearch<>());
+
+        for (OrderedSearchingAlgorithm<Integer> algorithm : algorithms) {
+            boolean same = true;
+            for (int value = sorted[0] - 1; value <= sorted[sorted.length - 1] + 1; ++value) {
+                same &= algorithm.lowerBound(compressed, value) == algorithm.lowerBound(generic, value)
+                        && algorithm.upperBound(compressed, value) == algorithm.upperBound(generic, value)
+                        && algorithm.indexOf(compressed, value) == algorithm.indexOf(generic, value);
+            }
+            System.out.println(algorithm + " matches the generic path: " + same);
+        }
+
+        return null;
+    }
+
     /**
      * Method to test the Abstract Factory pattern
      *
@@ -347,23 +386,34 @@ public class Test {
         System.out.println(headerWrap);
         System.out.println(header + "\n");
         System.out.println("Unsorted Data:");
-        for (T item : list) {
-            System.out.print(item + ", ");
-        }
+        printItems(list);
         System.out.println();
 
         sortingAlgorithm.sort(list, comparator);
 
         System.out.println("\nSorted Data (Length: " + list.size() + "): " + verifySorted(list, comparator));
 
-        for (T item : list) {
-            System.out.print(item + ", ");
-        }
+        printItems(list);
         System.out.println();
 
         System.out.println(headerWrap + "\n\n");
     }
 
+    /**
+     * Helper method for printing a collection of objects to standard output in large blocks, each followed by a comma
+     *
+     * @param objects The collection of objects to print
+     */
+    private static void printItems(Collection<?> objects) {
+        ResultSink sink = new ChannelResultSink(Channels.newChannel(System.out), ", ");
+        try {
+            sink.writeAll(objects);
+            sink.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Helper method for repeating a String sequence
      * Source - StackOverflow: https://stackoverflow.com/questions/1235179/simple-way-to-repeat-a-string
@@ -406,20 +456,10 @@ public class Test {
      */
     private static List<Integer> getIntsFromFile(String filepath) {
         List<Integer> ints = null;
-        File file = new File(filepath);
-        Scanner sc;
 
         try {
-            List<Integer> temp = new ArrayList<>(200);
-            sc = new Scanner(file);
-
-            while (sc.hasNextLine() && sc.hasNextInt()) {
-                int data = sc.nextInt();
-                temp.add(data);
-            }
-
-            ints = temp;
-        } catch (FileNotFoundException e) {
+            ints = IntFileLoader.loadList(Paths.get(filepath), false);
+        } catch (IOException | NumberFormatException e) {
             e.printStackTrace();
         }
 